@@ -1,15 +1,26 @@
 package com.travel.user_management.JwtAuth;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,24 +33,79 @@ import jakarta.servlet.http.HttpServletResponse;
  * 
  * Key Features:
  * - Extracts the JWT token from the "Authorization" header.
- * - Validates the token and retrieves the associated username.
- * - Loads user details and sets authentication in the Security Context.
+ * - Validates the token once and retrieves the associated username; tokens
+ *   seen before are served from a cache of verified tokens.
+ * - Rejects tokens revoked by logout.
+ * - Loads user details (from token claims or the database) and sets authentication
+ *   in the Security Context.
+ * - Times the authentication work of each request under "jwt.filter", tagged
+ *   with its outcome; rejected tokens are logged at debug level.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    /**
+     * Outcome of requests without a bearer token.
+     */
+    private static final String OUTCOME_NONE = "none";
+
+    /**
+     * Outcome of valid tokens whose user no longer exists.
+     */
+    private static final String OUTCOME_USER_MISSING = "user-missing";
+
     private final JwtAuthenticationHelper jwtHelper;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
+
+    /**
+     * Cache of already verified tokens, or null when disabled.
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final Map<String, Timer> timers = new HashMap<>();
+
+    /**
+     * When true, principals are rebuilt from token claims instead of the database.
+     */
+    private final boolean statelessPrincipal;
 
     /**
      * Constructs the JwtAuthenticationFilter with dependencies.
      *
      * @param jwtHelper          Utility class for JWT-related operations.
      * @param userDetailsService Service to load user details from the database.
+     * @param revocationList     List of tokens revoked by logout.
+     * @param verifiedTokenCache Cache of already verified tokens, if enabled.
+     * @param meterRegistry      Registry timing the filter.
+     * @param statelessPrincipal Whether principals are rebuilt from token claims instead of
+     *                           the database. Tokens that do not carry the identity claims
+     *                           always fall back to the database.
      */
-    public JwtAuthenticationFilter(JwtAuthenticationHelper jwtHelper, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtAuthenticationHelper jwtHelper, UserDetailsService userDetailsService,
+            TokenRevocationList revocationList, ObjectProvider<VerifiedTokenCache> verifiedTokenCache,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.stateless-principal.enabled:false}") boolean statelessPrincipal) {
         this.jwtHelper = jwtHelper;
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
+        this.verifiedTokenCache = verifiedTokenCache.getIfAvailable();
+        this.statelessPrincipal = statelessPrincipal;
+        registerTimer(meterRegistry, OUTCOME_NONE);
+        registerTimer(meterRegistry, OUTCOME_USER_MISSING);
+        for (JwtValidationResult.Status status : JwtValidationResult.Status.values()) {
+            registerTimer(meterRegistry, status.getTagValue());
+        }
+    }
+
+    private void registerTimer(MeterRegistry meterRegistry, String outcome) {
+        timers.put(outcome, Timer.builder("jwt.filter")
+                .description("Time spent authenticating a request from its bearer token")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
     }
 
     /**
@@ -55,37 +121,66 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        String outcome = authenticate(request);
+        timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        // Proceed with the request
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authenticates the request from its bearer token, if it carries one.
+     *
+     * @param request The incoming HTTP request.
+     * @return The outcome used to tag the filter timer.
+     */
+    private String authenticate(HttpServletRequest request) {
         // Extract the Authorization header
         String requestHeader = request.getHeader("Authorization");
-        String username = null;
-        String token = null;
 
         // Validate the token format (must start with "Bearer ")
         if (requestHeader != null && requestHeader.startsWith("Bearer ")) {
-            token = requestHeader.substring(7); // Extract the token part
-            username = jwtHelper.getUsernameFromToken(token);
+            String token = requestHeader.substring(7); // Extract the token part
+
+            // Verify the signature and expiry in a single parse, unless the token was
+            // verified before, then reject logged-out tokens on every request
+            JwtValidationResult result = verifiedTokenCache != null
+                    ? verifiedTokenCache.validate(token, jwtHelper::validateToken)
+                    : jwtHelper.validateToken(token);
+            if (result.isValid() && result.getTokenId() != null && revocationList.isRevoked(result.getTokenId())) {
+                result = JwtValidationResult.invalid(JwtValidationResult.Status.REVOKED);
+            }
+            String username = result.getSubject();
 
-            // If the username is valid and no authentication exists in the context
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Load user details from the database
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // If the token is valid and no authentication exists in the context
+            if (result.isValid() && username != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                try {
+                    // Rebuild the principal from the token when enabled, otherwise load it from the database
+                    UserDetails userDetails = statelessPrincipal
+                            ? jwtHelper.getPrincipalFromClaims(result.getClaims())
+                            : null;
+                    if (userDetails == null) {
+                        userDetails = userDetailsService.loadUserByUsername(username);
+                    }
 
-                // Check if the token is valid (not expired)
-                if (!jwtHelper.isTokenExpired(token)) {
                     // Create an authentication token
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
+
                     // Set the authentication in the security context
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                } else {
-                    System.out.println("Token is expired or user details not found.");
+                } catch (UsernameNotFoundException e) {
+                    log.debug("Token rejected outcome={} uri={}", OUTCOME_USER_MISSING, request.getRequestURI());
+                    return OUTCOME_USER_MISSING;
                 }
+            } else if (!result.isValid()) {
+                log.debug("Token rejected outcome={} uri={}", result.getStatus().getTagValue(), request.getRequestURI());
             }
+            return result.getStatus().getTagValue();
         }
-
-        // Proceed with the request
-        filterChain.doFilter(request, response);
+        return OUTCOME_NONE;
     }
 }
@@ -1,18 +1,33 @@
 package com.travel.user_management.JwtAuth;
 
+import java.security.Key;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
-import javax.crypto.spec.SecretKeySpec;
-
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
 /**
  * This class provides utility methods for handling JSON Web Tokens (JWT) 
@@ -23,21 +38,117 @@ import io.jsonwebtoken.SignatureAlgorithm;
  * - Token generation for user authentication.
  * - Token validation and expiration handling.
  * - Parsing token claims to extract user-specific details.
+ * - Signing keys and a thread-safe parser built once at startup; HS512 with
+ *   the shared secret, or RS256/ES256 with keys selected by "kid".
+ * - User id, role and claims version embedded so principals can be rebuilt
+ *   without a database lookup.
+ * - A unique token id ("jti") so individual tokens can be revoked.
+ * - Signing and validation timed under "jwt.sign" and "jwt.parse", the
+ *   latter tagged with the validation outcome (revocation is timed by the
+ *   filter's "jwt.filter" instead).
  */
 @Component
 public class JwtAuthenticationHelper {
     
     /**
-     * The secret key used for signing and validating the JWTs.
+     * The validity duration of the JWT access token in seconds.
      * Configured in the application properties file.
      */
-    @Value("${jwt.secretKey}}")
-    private String secretKey;
-    
+    private final long accessTokenValidity;
+
+    /**
+     * Claim names used to carry the user's identity inside the token.
+     */
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_VERSION = "ver";
+
+    /**
+     * Version of the claim layout above. Tokens carrying a different version
+     * are not trusted to rebuild a principal on their own. It is not a
+     * per-user version: a principal rebuilt from claims reflects the user as
+     * of signin until the token expires.
+     */
+    public static final int TOKEN_CLAIMS_VERSION = 1;
+
+    /**
+     * The keys used for signing and validating the JWTs, built once from the
+     * application properties file.
+     */
+    private final JwtSigningKeys signingKeys;
+
+    /**
+     * Immutable parser that picks the verification key from the token header.
+     * Shared by all requests.
+     */
+    private final JwtParser jwtParser;
+
+    private final Timer signTimer;
+    private final Map<JwtValidationResult.Status, Timer> parseTimers =
+            new EnumMap<>(JwtValidationResult.Status.class);
+
+    /**
+     * Constructs the helper for HS512 tokens signed with a shared secret.
+     *
+     * @param secretKey           the secret used for signing and validating the JWTs.
+     * @param accessTokenValidity the validity of access tokens in seconds.
+     */
+    public JwtAuthenticationHelper(String secretKey, long accessTokenValidity) {
+        this(JwtSigningKeys.hmac(secretKey), accessTokenValidity);
+    }
+
+    /**
+     * Constructs the helper for the given keys without recording metrics.
+     *
+     * @param signingKeys         the keys used for signing and validating the JWTs.
+     * @param accessTokenValidity the validity of access tokens in seconds.
+     */
+    public JwtAuthenticationHelper(JwtSigningKeys signingKeys, long accessTokenValidity) {
+        this(signingKeys, accessTokenValidity, new CompositeMeterRegistry());
+    }
+
     /**
-     * The validity duration of the JWT in seconds (1 hour).
+     * Constructs the helper and builds the parser for the given keys.
+     *
+     * @param signingKeys         the keys used for signing and validating the JWTs.
+     * @param accessTokenValidity the validity of access tokens in seconds.
+     * @param meterRegistry       the registry timing signing and validation.
      */
-    private final long JWT_TOKEN_VALIDITY = 60 * 60;
+    @Autowired
+    public JwtAuthenticationHelper(JwtSigningKeys signingKeys,
+            @Value("${jwt.access-token-validity-seconds:900}") long accessTokenValidity,
+            MeterRegistry meterRegistry) {
+        this.accessTokenValidity = accessTokenValidity;
+        this.signingKeys = signingKeys;
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("Time spent signing a JWT")
+                .tag("algorithm", signingKeys.getAlgorithm().getValue())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (JwtValidationResult.Status status : JwtValidationResult.Status.values()) {
+            if (status == JwtValidationResult.Status.REVOKED) {
+                // Revocation is checked after parsing, and timed, by JwtAuthenticationFilter
+                continue;
+            }
+            parseTimers.put(status, Timer.builder("jwt.parse")
+                    .description("Time spent verifying and parsing a JWT")
+                    .tag("outcome", status.getTagValue())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(@SuppressWarnings("rawtypes") JwsHeader header, Claims claims) {
+                        Key key = signingKeys.resolveVerificationKey(header);
+                        if (key == null) {
+                            throw new SignatureException("No verification key for kid " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
 
     /**
      * Extracts the username from the provided JWT token.
@@ -57,14 +168,60 @@ public class JwtAuthenticationHelper {
      * @return the claims contained within the token.
      */
     public Claims getClaimsFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes())
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
         return claims;
     }
 
+    /**
+     * Validates the provided JWT token with a single parse and signature check.
+     * Expired, tampered or malformed tokens are reported through the result
+     * instead of being thrown.
+     *
+     * @param token the JWT token.
+     * @return the validation result carrying the subject, expiry and claims.
+     */
+    public JwtValidationResult validateToken(String token) {
+        long start = System.nanoTime();
+        JwtValidationResult result = parse(token);
+        parseTimers.get(result.getStatus()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private JwtValidationResult parse(String token) {
+        try {
+            return JwtValidationResult.valid(getClaimsFromToken(token));
+        } catch (ExpiredJwtException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Status.EXPIRED);
+        } catch (SignatureException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Status.BAD_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) {
+            return JwtValidationResult.invalid(JwtValidationResult.Status.MALFORMED);
+        }
+    }
+
+    /**
+     * Rebuilds a principal from verified token claims without a database lookup.
+     *
+     * @param claims the verified claims.
+     * @return the principal, or null if the token does not carry the identity claims.
+     */
+    public JwtUserPrincipal getPrincipalFromClaims(Claims claims) {
+        Integer version = claims.get(CLAIM_VERSION, Integer.class);
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (version == null || version != TOKEN_CLAIMS_VERSION || userId == null || role == null
+                || claims.getSubject() == null) {
+            return null;
+        }
+        try {
+            return new JwtUserPrincipal(userId.longValue(), claims.getSubject(), Role.valueOf(role));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Checks whether the provided JWT token has expired.
      *
@@ -77,20 +234,40 @@ public class JwtAuthenticationHelper {
         return expDate.before(new Date());
     }
 
+    /**
+     * @return the validity of access tokens in seconds.
+     */
+    public long getAccessTokenValidity() {
+        return accessTokenValidity;
+    }
+
     /**
      * Generates a JWT token for the given user details.
      *
-     * @param userDetails the user's details, including the username.
+     * @param userDetails the user's details, including the username, id and role.
      * @return the generated JWT token.
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        return Jwts.builder()
+        if (userDetails instanceof User user && user.getId() != null && user.getRole() != null) {
+            claims.put(CLAIM_USER_ID, user.getId());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_VERSION, TOKEN_CLAIMS_VERSION);
+        }
+        JwtBuilder builder = Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + JWT_TOKEN_VALIDITY * 1000))
-                .signWith(new SecretKeySpec(secretKey.getBytes(), SignatureAlgorithm.HS512.getJcaName()), SignatureAlgorithm.HS512)
+                .setExpiration(new Date(System.currentTimeMillis() + accessTokenValidity * 1000));
+        if (signingKeys.getActiveKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKeys.getActiveKeyId());
+        }
+        long start = System.nanoTime();
+        String token = builder
+                .signWith(signingKeys.getSigningKey(), signingKeys.getAlgorithm())
                 .compact();
+        signTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 }
@@ -0,0 +1,243 @@
+package com.travel.user_management.JwtAuth;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Holds the keys used to sign and verify JWTs.
+ *
+ * Key Features:
+ * - HS512 with the shared secret (the original behaviour), or RS256/ES256
+ *   with a private key only this service holds.
+ * - Asymmetric keys are identified by a key id ("kid") carried in the token
+ *   header. Every key in the key store verifies tokens, but only the active
+ *   one signs, so keys are rotated by adding a new alias, switching the
+ *   active kid and removing the old alias once its tokens have expired.
+ * - Public keys are exported as a JSON Web Key Set so other services can
+ *   verify tokens without calling this service.
+ */
+public class JwtSigningKeys {
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKeyId;
+    private final Key signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+
+    /**
+     * HMAC key still accepted for tokens without a key id, or null.
+     */
+    private final SecretKey hmacKey;
+
+    private JwtSigningKeys(SignatureAlgorithm algorithm, String activeKeyId, Key signingKey,
+            Map<String, PublicKey> verificationKeys, SecretKey hmacKey) {
+        this.algorithm = algorithm;
+        this.activeKeyId = activeKeyId;
+        this.signingKey = signingKey;
+        this.verificationKeys = Collections.unmodifiableMap(new LinkedHashMap<>(verificationKeys));
+        this.hmacKey = hmacKey;
+    }
+
+    /**
+     * Signs and verifies with HS512 and the shared secret.
+     *
+     * @param secret the shared secret.
+     * @return the signing keys.
+     */
+    public static JwtSigningKeys hmac(String secret) {
+        SecretKey key = hmacKey(secret);
+        return new JwtSigningKeys(SignatureAlgorithm.HS512, null, key, Map.of(), key);
+    }
+
+    /**
+     * Signs with a key pair generated at startup. Tokens do not survive a
+     * restart and are not accepted by other instances, so this is only meant
+     * for development and single-instance deployments.
+     *
+     * @param algorithm  RS256 or ES256.
+     * @param hmacSecret secret whose HS512 tokens are still accepted, or null.
+     * @return the signing keys.
+     */
+    public static JwtSigningKeys generated(SignatureAlgorithm algorithm, String hmacSecret) {
+        requireAsymmetric(algorithm);
+        KeyPair keyPair = generateKeyPair(algorithm);
+        String keyId = UUID.randomUUID().toString();
+        return new JwtSigningKeys(algorithm, keyId, keyPair.getPrivate(), Map.of(keyId, keyPair.getPublic()),
+                hmacSecret == null ? null : hmacKey(hmacSecret));
+    }
+
+    /**
+     * Loads the key pairs from a PKCS12 key store. Each alias is a key id.
+     *
+     * @param algorithm   RS256 or ES256.
+     * @param keyStore    the PKCS12 key store.
+     * @param password    the password of the key store and its keys.
+     * @param activeKeyId the alias of the key used for signing.
+     * @param hmacSecret  secret whose HS512 tokens are still accepted, or null.
+     * @return the signing keys.
+     */
+    public static JwtSigningKeys fromKeyStore(SignatureAlgorithm algorithm, InputStream keyStore, String password,
+            String activeKeyId, String hmacSecret) {
+        requireAsymmetric(algorithm);
+        String keyAlgorithm = algorithm.isEllipticCurve() ? "EC" : "RSA";
+        char[] passwordChars = password.toCharArray();
+        try {
+            KeyStore store = KeyStore.getInstance("PKCS12");
+            store.load(keyStore, passwordChars);
+
+            Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+            for (String alias : Collections.list(store.aliases())) {
+                Certificate certificate = store.getCertificate(alias);
+                if (certificate == null) {
+                    continue;
+                }
+                PublicKey publicKey = certificate.getPublicKey();
+                if (!publicKey.getAlgorithm().equals(keyAlgorithm)) {
+                    throw new IllegalStateException("Key '" + alias + "' cannot be used with " + algorithm);
+                }
+                verificationKeys.put(alias, publicKey);
+            }
+            Key signingKey = store.getKey(activeKeyId, passwordChars);
+            if (!(signingKey instanceof PrivateKey)) {
+                throw new IllegalStateException("Key store has no private key '" + activeKeyId + "'");
+            }
+            return new JwtSigningKeys(algorithm, activeKeyId, signingKey, verificationKeys,
+                    hmacSecret == null ? null : hmacKey(hmacSecret));
+        } catch (GeneralSecurityException | IOException e) {
+            throw new IllegalStateException("Unable to load JWT signing keys", e);
+        } finally {
+            Arrays.fill(passwordChars, '\0');
+        }
+    }
+
+    /**
+     * Generates a key pair suitable for the given algorithm.
+     *
+     * @param algorithm RS256 or ES256.
+     * @return the key pair.
+     */
+    public static KeyPair generateKeyPair(SignatureAlgorithm algorithm) {
+        try {
+            if (algorithm == SignatureAlgorithm.ES256) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to generate " + algorithm + " key pair", e);
+        }
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return the key id put in the header of new tokens, or null for HS512.
+     */
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Picks the key that verifies a token from its header.
+     *
+     * @param header the JWS header.
+     * @return the verification key, or null if no configured key matches.
+     */
+    public Key resolveVerificationKey(JwsHeader<?> header) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            return hmacKey;
+        }
+        return verificationKeys.get(keyId);
+    }
+
+    /**
+     * Exports the public keys as a JSON Web Key Set (RFC 7517).
+     *
+     * @return the key set, empty for HS512.
+     */
+    public Map<String, Object> toJwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        verificationKeys.forEach((keyId, publicKey) -> keys.add(toJwk(keyId, publicKey)));
+        return Map.of("keys", keys);
+    }
+
+    private Map<String, Object> toJwk(String keyId, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else if (publicKey instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("kid", keyId);
+        return jwk;
+    }
+
+    /**
+     * Encodes an unsigned big-endian integer, left-padded to the given length.
+     */
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS512.getJcaName());
+    }
+
+    private static void requireAsymmetric(SignatureAlgorithm algorithm) {
+        if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("Unsupported asymmetric JWT algorithm: " + algorithm);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.travel.user_management.JwtAuth;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.travel.user_management.UserModel.Role;
+
+/**
+ * Lightweight principal rebuilt from the claims of a verified JWT.
+ * 
+ * Used when stateless principals are enabled so an authenticated request
+ * does not need a database lookup. It carries no password.
+ */
+public class JwtUserPrincipal implements UserDetails {
+
+    private static final long serialVersionUID = 6120918468412358216L;
+
+    private final Long id;
+    private final String username;
+    private final Role role;
+
+    public JwtUserPrincipal(Long id, String username, Role role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+}
@@ -0,0 +1,100 @@
+package com.travel.user_management.JwtAuth;
+
+import java.util.Date;
+import java.util.Locale;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Outcome of validating a JWT in a single parse.
+ * 
+ * Holds the verification status together with the subject, expiry and claims
+ * so callers do not need to parse the token a second time.
+ */
+public class JwtValidationResult {
+
+    /**
+     * Possible outcomes of validating a token.
+     */
+    public enum Status {
+        VALID,
+        EXPIRED,
+        REVOKED,
+        BAD_SIGNATURE,
+        MALFORMED;
+
+        /**
+         * @return the status as used in metric tags and logs, e.g. "bad-signature".
+         */
+        public String getTagValue() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final Status status;
+    private final Claims claims;
+
+    private JwtValidationResult(Status status, Claims claims) {
+        this.status = status;
+        this.claims = claims;
+    }
+
+    /**
+     * Creates a result for a token whose signature and expiry were verified.
+     *
+     * @param claims the verified claims.
+     * @return a valid result.
+     */
+    public static JwtValidationResult valid(Claims claims) {
+        return new JwtValidationResult(Status.VALID, claims);
+    }
+
+    /**
+     * Creates a result for a token that was rejected.
+     *
+     * @param status the reason the token was rejected.
+     * @return an invalid result without claims.
+     */
+    public static JwtValidationResult invalid(Status status) {
+        return new JwtValidationResult(status, null);
+    }
+
+    /**
+     * @return the token id ("jti"), or null if the token is invalid or has none.
+     */
+    public String getTokenId() {
+        return claims != null ? claims.getId() : null;
+    }
+
+    /**
+     * @return true if the token is signed correctly and not expired.
+     */
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the username embedded in the token, or null if the token is invalid.
+     */
+    public String getSubject() {
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * @return the expiry of the token, or null if the token is invalid.
+     */
+    public Date getExpiration() {
+        return claims != null ? claims.getExpiration() : null;
+    }
+
+    /**
+     * @return the verified claims, or null if the token is invalid.
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+}
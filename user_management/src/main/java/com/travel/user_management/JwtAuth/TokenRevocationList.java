@@ -0,0 +1,77 @@
+package com.travel.user_management.JwtAuth;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory list of revoked tokens, keyed by their "jti" claim.
+ * 
+ * Key Features:
+ * - O(1) lookups on every authenticated request with no database access.
+ * - Each entry is kept only until the token would have expired anyway;
+ *   expired entries are ignored on lookup and purged periodically.
+ */
+@Component
+public class TokenRevocationList {
+
+    /**
+     * Token id mapped to the token's expiry in epoch milliseconds.
+     */
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+
+    /**
+     * Creates a list using the system clock.
+     */
+    public TokenRevocationList() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a list with an explicit clock, mainly for tests.
+     *
+     * @param clock clock used to check expiry.
+     */
+    public TokenRevocationList(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @param tokenId    The "jti" claim of the token.
+     * @param expiration The expiry of the token.
+     */
+    public void revoke(String tokenId, Date expiration) {
+        if (expiration.getTime() > clock.millis()) {
+            revoked.put(tokenId, expiration.getTime());
+        }
+    }
+
+    /**
+     * @param tokenId The "jti" claim of the token.
+     * @return true if the token was revoked and has not expired yet.
+     */
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > clock.millis();
+    }
+
+    /**
+     * Drops the entries of tokens that have expired.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = clock.millis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
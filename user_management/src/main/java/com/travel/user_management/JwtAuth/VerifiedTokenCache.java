@@ -0,0 +1,178 @@
+package com.travel.user_management.JwtAuth;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Size-bounded cache of tokens whose signature has already been verified,
+ * keyed by the SHA-256 digest of the token.
+ *
+ * Key Features:
+ * - Repeat requests with the same bearer token skip signature verification
+ *   and JSON parsing; hashing the token is far cheaper than either.
+ * - Entries are never served past the token's "exp" and are purged periodically.
+ * - Only valid results are cached. Revocation is still checked by the caller
+ *   on every request, so a cached token stops working as soon as it is revoked.
+ * - Once full, expired entries are dropped first, then arbitrary entries.
+ * - Hit, miss and eviction counters and an estimate of the memory held.
+ */
+public class VerifiedTokenCache {
+
+    /**
+     * Rough per-entry overhead on top of the claims: digest key, map node,
+     * entry and result objects.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final int maxSize;
+    private final Clock clock;
+    private final ConcurrentHashMap<ByteBuffer, CachedToken> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    /**
+     * Creates a cache using the system clock.
+     *
+     * @param maxSize maximum number of tokens kept in memory.
+     */
+    public VerifiedTokenCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache with an explicit clock, mainly for tests.
+     *
+     * @param maxSize maximum number of tokens kept in memory.
+     * @param clock   clock used to check expiry.
+     */
+    public VerifiedTokenCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached result for a token, verifying it on a miss.
+     *
+     * @param token     the bearer token.
+     * @param validator verifies the token when it is not cached.
+     * @return the validation result.
+     */
+    public JwtValidationResult validate(String token, Function<String, JwtValidationResult> validator) {
+        ByteBuffer key = digest(token);
+        long now = clock.millis();
+        CachedToken entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                hits.increment();
+                return entry.result();
+            }
+            remove(key, entry);
+        }
+        misses.increment();
+
+        JwtValidationResult result = validator.apply(token);
+        Date expiration = result.isValid() ? result.getExpiration() : null;
+        if (expiration != null && expiration.getTime() > now) {
+            put(key, new CachedToken(result, expiration.getTime(), ENTRY_OVERHEAD_BYTES + token.length()));
+        }
+        return result;
+    }
+
+    /**
+     * Drops the entries of tokens that have expired.
+     */
+    @Scheduled(fixedDelayString = "${jwt.verified-token-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = clock.millis();
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt() <= now) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    private void put(ByteBuffer key, CachedToken entry) {
+        if (entries.size() >= maxSize) {
+            makeRoom();
+        }
+        CachedToken previous = entries.put(key, entry);
+        estimatedBytes.addAndGet(entry.estimatedBytes() - (previous == null ? 0 : previous.estimatedBytes()));
+    }
+
+    /**
+     * Frees about a tenth of the cache so eviction is not paid on every insert.
+     */
+    private void makeRoom() {
+        purgeExpired();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<Map.Entry<ByteBuffer, CachedToken>> iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            Map.Entry<ByteBuffer, CachedToken> next = iterator.next();
+            remove(next.getKey(), next.getValue());
+        }
+    }
+
+    private void remove(ByteBuffer key, CachedToken entry) {
+        if (entries.remove(key, entry)) {
+            estimatedBytes.addAndGet(-entry.estimatedBytes());
+            evictions.increment();
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return an estimate of the heap held by cached entries, in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    private record CachedToken(JwtValidationResult result, long expiresAt, int estimatedBytes) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.travel.user_management.UserCache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe counting Bloom filter over strings.
+ * 
+ * Key Features:
+ * - Answers "definitely absent" or "possibly present" without touching the database.
+ * - 4-bit counters packed sixteen to a long, updated lock-free with CAS, so
+ *   entries can be removed as well as added.
+ * - Sized from the expected number of entries and the target false-positive rate.
+ * 
+ * A counter that reaches its maximum stays there, so removals can never
+ * produce a false negative; at worst they leave a false positive behind.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashFunctions;
+
+    /**
+     * @param expectedInsertions The number of entries the filter is sized for.
+     * @param falsePositiveRate  The target false-positive probability at that size.
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long counters = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(words);
+        this.counterCount = (long) words * COUNTERS_PER_WORD;
+        this.hashFunctions = (int) Math.max(1, Math.min(16, Math.round((double) counterCount / expectedInsertions * Math.log(2))));
+    }
+
+    private CountingBloomFilter(int words, int hashFunctions) {
+        this.words = new AtomicLongArray(words);
+        this.counterCount = (long) words * COUNTERS_PER_WORD;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * @return a new, empty filter with the same size and hash functions.
+     */
+    public CountingBloomFilter emptyCopy() {
+        return new CountingBloomFilter(words.length(), hashFunctions);
+    }
+
+    /**
+     * Adds an entry to the filter.
+     *
+     * @param value The entry to add.
+     */
+    public void add(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            increment(Math.floorMod(hash1 + i * hash2, counterCount));
+        }
+    }
+
+    /**
+     * Removes an entry that was previously added. Removing an entry that was
+     * never added may cause false negatives, so callers must only remove
+     * values they know to be present.
+     *
+     * @param value The entry to remove.
+     */
+    public void remove(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            decrement(Math.floorMod(hash1 + i * hash2, counterCount));
+        }
+    }
+
+    /**
+     * @param value The entry to look up.
+     * @return false if the entry is definitely absent, true if it may be present.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counter(Math.floorMod(hash1 + i * hash2, counterCount)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The approximate memory used by the counters, in bytes.
+     */
+    public long getSizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private long counter(long index) {
+        long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (word >>> shift(index)) & COUNTER_MAX;
+    }
+
+    private void increment(long index) {
+        int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        while (true) {
+            long word = words.get(wordIndex);
+            long value = (word >>> shift) & COUNTER_MAX;
+            if (value == COUNTER_MAX || words.compareAndSet(wordIndex, word, word + (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private void decrement(long index) {
+        int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        while (true) {
+            long word = words.get(wordIndex);
+            long value = (word >>> shift) & COUNTER_MAX;
+            // Saturated counters have lost their exact count and must stay set
+            if (value == 0 || value == COUNTER_MAX || words.compareAndSet(wordIndex, word, word - (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with a murmur3 mix.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,153 @@
+package com.travel.user_management.UserCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * In-memory, size-bounded {@link UserCache} with a time-to-live per entry.
+ * 
+ * Key Features:
+ * - Least-recently-used eviction once the maximum size is reached.
+ * - Entries expire after the configured TTL and are never served past it.
+ * - Hit, miss and eviction counters for observability.
+ * 
+ * This is the default cache; any other {@link UserCache} bean can replace it.
+ */
+public class LocalUserDetailsCache implements UserCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache using the system clock.
+     *
+     * @param maxSize maximum number of users kept in memory.
+     * @param ttl     how long an entry is served after it was cached.
+     */
+    public LocalUserDetailsCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache with an explicit clock, mainly for tests.
+     *
+     * @param maxSize maximum number of users kept in memory.
+     * @param ttl     how long an entry is served after it was cached.
+     * @param clock   clock used to compute expiry.
+     */
+    public LocalUserDetailsCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (username == null) {
+            return null;
+        }
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(username);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.user;
+        }
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        long expiresAt = clock.millis() + ttlMillis;
+        synchronized (entries) {
+            entries.put(user.getUsername(), new Entry(user, expiresAt));
+            if (entries.size() > maxSize) {
+                evictOverflow();
+            }
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        if (username == null) {
+            return;
+        }
+        synchronized (entries) {
+            if (entries.remove(username) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drops expired entries first, then the least recently used ones, until the
+     * cache is back within its size limit. Caller must hold the lock.
+     */
+    private void evictOverflow() {
+        long now = clock.millis();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxSize) {
+            if (iterator.next().getValue().expiresAt <= now) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxSize) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry(UserDetails user, long expiresAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.travel.user_management.UserCache;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe set of token buckets, one per key.
+ * 
+ * Key Features:
+ * - Each bucket holds up to {@code capacity} tokens and refills continuously
+ *   at a fixed rate; every permitted call takes one token.
+ * - Buckets are updated lock-free with CAS on an immutable state.
+ * - A bucket that has refilled completely carries no information, so it is
+ *   dropped by {@link #purgeIdle()} and recreated full on the next call.
+ */
+public class TokenBucketLimiter {
+
+    private final double capacity;
+    private final double refillPerMilli;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param capacity        Maximum number of calls permitted in a burst.
+     * @param refillPerMinute Number of tokens added back per minute.
+     * @param clock           Clock used to compute refills.
+     */
+    public TokenBucketLimiter(int capacity, double refillPerMinute, Clock clock) {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerMinute / 60_000d;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a token from the bucket of the given key, if one is available.
+     *
+     * @param key The key to rate limit, e.g. a username or client address.
+     * @return true if the call is permitted.
+     */
+    public boolean tryAcquire(String key) {
+        if (take(key)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryAcquire(String)}, for calls that
+     * turned out not to count against the limit. A bucket never holds more
+     * than its capacity.
+     *
+     * @param key The key to refund.
+     */
+    public void refund(String key) {
+        AtomicReference<Bucket> bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        long now = clock.millis();
+        bucket.updateAndGet(current -> new Bucket(
+                Math.min(capacity, current.tokensAt(now, capacity, refillPerMilli) + 1),
+                Math.max(now, current.updatedAt())));
+    }
+
+    private boolean take(String key) {
+        long now = clock.millis();
+        AtomicReference<Bucket> bucket = buckets.computeIfAbsent(key,
+                k -> new AtomicReference<>(new Bucket(capacity, now)));
+        while (true) {
+            Bucket current = bucket.get();
+            double tokens = current.tokensAt(now, capacity, refillPerMilli);
+            if (tokens < 1) {
+                return false;
+            }
+            if (bucket.compareAndSet(current, new Bucket(tokens - 1, Math.max(now, current.updatedAt())))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drops the buckets that have refilled completely.
+     */
+    public void purgeIdle() {
+        long now = clock.millis();
+        buckets.forEach((key, bucket) -> {
+            if (bucket.get().tokensAt(now, capacity, refillPerMilli) >= capacity) {
+                buckets.remove(key, bucket);
+            }
+        });
+    }
+
+    /**
+     * @return the number of keys currently tracked.
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    private record Bucket(double tokens, long updatedAt) {
+
+        double tokensAt(long now, double capacity, double refillPerMilli) {
+            long elapsed = Math.max(0, now - updatedAt);
+            return Math.min(capacity, tokens + elapsed * refillPerMilli);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.travel.user_management.UserConfig;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks a BCrypt cost factor that fits a target hashing latency on the
+ * current hardware.
+ * 
+ * Each cost step doubles the work, so the time of a single strength is
+ * measured and the others are extrapolated from it.
+ */
+public final class BCryptStrengthCalibrator {
+
+    /**
+     * The highest cost factor supported by BCrypt.
+     */
+    static final int MAX_STRENGTH = 31;
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Returns the highest strength whose hash time stays within the target,
+     * never going below the minimum strength.
+     *
+     * @param targetMillis The target time for a single hash in milliseconds.
+     * @param minStrength  The lowest acceptable strength.
+     * @return The calibrated strength.
+     */
+    public static int calibrate(long targetMillis, int minStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(SAMPLE_PASSWORD); // warm up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double millis = best / 1_000_000.0;
+        int strength = minStrength;
+        while (strength < MAX_STRENGTH && millis * 2 <= targetMillis) {
+            millis *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,200 @@
+package com.travel.user_management.UserConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.travel.user_management.UserException.PasswordHashingUnavailableException;
+
+/**
+ * PasswordEncoder that runs hashing and verification on a dedicated,
+ * size-limited worker pool instead of the request thread.
+ * 
+ * Key Features:
+ * - Caps the number of concurrent hashes to the pool size.
+ * - Rejects immediately with a 503 when the bounded queue is full, instead
+ *   of letting latency pile up for every other endpoint.
+ * - Bulk work shares the pool through its own, smaller concurrency limit and
+ *   waits for a permit instead of filling the queue, so imports leave room
+ *   for interactive signins and never hash on the caller's request thread.
+ * - Counts rejected tasks for observability.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * How long bulk work waits before resubmitting a task the full queue rejected.
+     */
+    private static final long BULK_RETRY_MILLIS = 10;
+
+    /**
+     * Permits for bulk hashing tasks queued or running on the pool.
+     */
+    private final Semaphore bulkPermits;
+    private final int bulkConcurrency;
+
+    /**
+     * @param delegate        The encoder doing the actual hashing.
+     * @param executor        The bounded pool the hashing runs on.
+     * @param bulkConcurrency Maximum bulk hashing tasks queued or running at once.
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, int bulkConcurrency) {
+        if (bulkConcurrency <= 0) {
+            throw new IllegalArgumentException("bulkConcurrency must be positive");
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.bulkConcurrency = bulkConcurrency;
+        this.bulkPermits = new Semaphore(bulkConcurrency);
+    }
+
+    /**
+     * Derives the bulk concurrency limit: below the pool size so interactive
+     * work always has a thread, half the pool unless configured.
+     *
+     * @param configured The configured limit, or 0 for the default.
+     * @param poolSize   The number of hashing threads.
+     * @return the number of bulk hashing tasks allowed at once.
+     */
+    static int bulkConcurrency(int configured, int poolSize) {
+        if (poolSize <= 1) {
+            return 1;
+        }
+        return configured > 0 ? Math.min(configured, poolSize - 1) : Math.max(1, poolSize / 2);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Encodes many passwords in parallel on the hashing pool, for bulk imports.
+     * At most the bulk concurrency limit of tasks is queued or running at a
+     * time; the caller blocks for a permit, and a task rejected by a queue
+     * full of interactive work is retried shortly after rather than failed
+     * or hashed on the calling thread.
+     *
+     * @param rawPasswords The passwords to encode.
+     * @return The encoded passwords, in the same order.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                futures.add(submitBulk(() -> delegate.encode(rawPassword)));
+            }
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        List<String> encoded = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encoded.add(await(future));
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingUnavailableException("Too many concurrent password operations, try again later");
+        }
+    }
+
+    private <T> Future<T> submitBulk(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                bulkPermits.release();
+            }
+        };
+        try {
+            bulkPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password operation interrupted");
+        }
+        while (true) {
+            try {
+                executor.execute(future);
+                return future;
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown() || !pause()) {
+                    // Cancelling runs done(), which hands the permit back
+                    future.cancel(false);
+                    throw new PasswordHashingUnavailableException("Password hashing is unavailable");
+                }
+            }
+        }
+    }
+
+    private static boolean pause() {
+        try {
+            Thread.sleep(BULK_RETRY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password operation interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    /**
+     * @return the number of bulk hashing tasks currently queued or running.
+     */
+    public int getBulkInFlight() {
+        return bulkConcurrency - bulkPermits.availablePermits();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+}
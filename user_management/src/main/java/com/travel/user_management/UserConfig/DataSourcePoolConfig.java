@@ -0,0 +1,60 @@
+package com.travel.user_management.UserConfig;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sizes the Hikari connection pool from the number of cores.
+ *
+ * Signin and signup spend most of their time hashing on the CPU-bound
+ * password pool, so a large connection pool only adds contention on the
+ * database. The pool defaults to (cores * 2) + 1 connections, the usual
+ * starting point for a pool in front of a single database, and is kept at a
+ * fixed size so a spike never waits for connections to be opened.
+ *
+ * datasource.pool-size overrides the derived size; an explicit
+ * spring.datasource.hikari.maximum-pool-size is left alone.
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+
+    /**
+     * Applies the pool size after Spring Boot has bound the
+     * spring.datasource.hikari properties and before the pool starts.
+     *
+     * @param environment The environment holding datasource.pool-size.
+     * @return The BeanPostProcessor sizing every HikariDataSource.
+     */
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMaximumPoolSize() < 1) {
+                    int poolSize = poolSize(environment.getProperty("datasource.pool-size", Integer.class, 0),
+                            Runtime.getRuntime().availableProcessors());
+                    dataSource.setMaximumPoolSize(poolSize);
+                    log.info("Sized connection pool {} to {} connections", dataSource.getPoolName(), poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * @param configured The configured pool size, or 0 to derive it.
+     * @param cores      The number of available cores.
+     * @return the number of connections to keep in the pool.
+     */
+    static int poolSize(int configured, int cores) {
+        return configured > 0 ? configured : cores * 2 + 1;
+    }
+}
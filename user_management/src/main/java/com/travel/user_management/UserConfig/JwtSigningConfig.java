@@ -0,0 +1,72 @@
+package com.travel.user_management.UserConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import com.travel.user_management.JwtAuth.JwtSigningKeys;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Configures the keys used to sign and verify JWTs.
+ *
+ * HS512 with the shared secret stays the default. With RS256 or ES256 the
+ * keys are read from a PKCS12 key store, where every alias is a key id, or
+ * generated at startup when no key store is configured.
+ *
+ * HS512 tokens are rejected after the switch unless jwt.signing.accept-hmac
+ * is set. That switch is for the migration only: while it is on, anyone
+ * holding the old secret can still forge tokens.
+ */
+@Configuration
+public class JwtSigningConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtSigningConfig.class);
+
+    /**
+     * Creates the signing keys.
+     *
+     * @param resourceLoader   Loader for the key store location.
+     * @param secretKey        The shared secret used for HS512.
+     * @param algorithm        HS512, RS256 or ES256.
+     * @param keyStoreLocation Location of the PKCS12 key store, or empty to generate keys.
+     * @param keyStorePassword Password of the key store and its keys.
+     * @param activeKeyId      Alias of the key used to sign new tokens.
+     * @param acceptHmac       Whether HS512 tokens are still accepted after switching algorithm,
+     *                         only while tokens issued before the switch expire.
+     * @return The JwtSigningKeys bean.
+     * @throws IOException if the key store cannot be read.
+     */
+    @Bean
+    public JwtSigningKeys jwtSigningKeys(ResourceLoader resourceLoader,
+            @Value("${jwt.secretKey}") String secretKey,
+            @Value("${jwt.signing.algorithm:HS512}") SignatureAlgorithm algorithm,
+            @Value("${jwt.signing.keystore.location:}") String keyStoreLocation,
+            @Value("${jwt.signing.keystore.password:}") String keyStorePassword,
+            @Value("${jwt.signing.active-kid:}") String activeKeyId,
+            @Value("${jwt.signing.accept-hmac:false}") boolean acceptHmac) throws IOException {
+        if (algorithm == SignatureAlgorithm.HS512) {
+            return JwtSigningKeys.hmac(secretKey);
+        }
+        String hmacSecret = acceptHmac ? secretKey : null;
+        if (acceptHmac) {
+            log.warn("jwt.signing.accept-hmac is on: HS512 tokens signed with the shared secret are still accepted; "
+                    + "turn it off once the access tokens issued before the switch to {} have expired", algorithm);
+        }
+        if (keyStoreLocation.isBlank()) {
+            log.warn("No jwt.signing.keystore.location configured, generating a {} key pair; "
+                    + "tokens will not survive a restart or be accepted by other instances", algorithm);
+            return JwtSigningKeys.generated(algorithm, hmacSecret);
+        }
+        try (InputStream keyStore = resourceLoader.getResource(keyStoreLocation).getInputStream()) {
+            return JwtSigningKeys.fromKeyStore(algorithm, keyStore, keyStorePassword, activeKeyId, hmacSecret);
+        }
+    }
+}
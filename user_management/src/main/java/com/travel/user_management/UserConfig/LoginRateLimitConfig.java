@@ -0,0 +1,97 @@
+package com.travel.user_management.UserConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.travel.user_management.UserCache.TokenBucketLimiter;
+import com.travel.user_management.UserService.LoginAttemptLimiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configures the in-process rate limiting and lockout of signin attempts.
+ */
+@Configuration
+public class LoginRateLimitConfig {
+
+    /**
+     * Creates the login attempt limiter, or one that permits everything when disabled.
+     *
+     * @param enabled                 Whether signin attempts are limited.
+     * @param usernameCapacity        Attempts allowed in a burst per username.
+     * @param usernameRefillPerMinute Attempts added back per minute per username.
+     * @param rememberSuccessSeconds  How long a username and address pair skips the username bucket after signing in.
+     * @param addressCapacity         Attempts allowed in a burst per client address.
+     * @param addressRefillPerMinute  Attempts added back per minute per client address.
+     * @param maxFailures             Consecutive failures before a username and address pair is locked out.
+     * @param lockoutSeconds          How long a lockout lasts in seconds.
+     * @return The LoginAttemptLimiter bean.
+     */
+    @Bean
+    public LoginAttemptLimiter loginAttemptLimiter(@Value("${login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${login.rate-limit.username.capacity:5}") int usernameCapacity,
+            @Value("${login.rate-limit.username.refill-per-minute:5}") double usernameRefillPerMinute,
+            @Value("${login.rate-limit.username.remember-success-seconds:86400}") long rememberSuccessSeconds,
+            @Value("${login.rate-limit.address.capacity:20}") int addressCapacity,
+            @Value("${login.rate-limit.address.refill-per-minute:60}") double addressRefillPerMinute,
+            @Value("${login.lockout.max-failures:10}") int maxFailures,
+            @Value("${login.lockout.duration-seconds:900}") long lockoutSeconds) {
+        if (!enabled) {
+            return LoginAttemptLimiter.disabled();
+        }
+        Clock clock = Clock.systemUTC();
+        return new LoginAttemptLimiter(
+                new TokenBucketLimiter(usernameCapacity, usernameRefillPerMinute, clock),
+                new TokenBucketLimiter(addressCapacity, addressRefillPerMinute, clock),
+                maxFailures, Duration.ofSeconds(lockoutSeconds), Duration.ofSeconds(rememberSuccessSeconds), clock);
+    }
+
+    /**
+     * Exposes the limiter's state under "login.rate.limit".
+     *
+     * @param limiter The login attempt limiter.
+     * @return The MeterBinder for the limiter.
+     */
+    @Bean
+    public MeterBinder loginRateLimitMetrics(LoginAttemptLimiter limiter) {
+        return registry -> {
+            FunctionCounter.builder("login.rate.limit.rejected", limiter.getUsernameLimiter(),
+                    TokenBucketLimiter::getRejectionCount)
+                    .tag("reason", "username")
+                    .description("Signin attempts rejected before password hashing")
+                    .register(registry);
+            FunctionCounter.builder("login.rate.limit.rejected", limiter.getAddressLimiter(),
+                    TokenBucketLimiter::getRejectionCount)
+                    .tag("reason", "address")
+                    .description("Signin attempts rejected before password hashing")
+                    .register(registry);
+            FunctionCounter.builder("login.rate.limit.rejected", limiter, LoginAttemptLimiter::getLockoutRejectionCount)
+                    .tag("reason", "lockout")
+                    .description("Signin attempts rejected before password hashing")
+                    .register(registry);
+            Gauge.builder("login.rate.limit.tracked", limiter.getUsernameLimiter(), TokenBucketLimiter::size)
+                    .tag("key", "username")
+                    .description("Keys with a partially drained bucket")
+                    .register(registry);
+            Gauge.builder("login.rate.limit.tracked", limiter.getAddressLimiter(), TokenBucketLimiter::size)
+                    .tag("key", "address")
+                    .description("Keys with a partially drained bucket")
+                    .register(registry);
+            Gauge.builder("login.rate.limit.trusted", limiter, LoginAttemptLimiter::getRememberedSuccessCount)
+                    .description("Username and address pairs skipping the username bucket after a recent signin")
+                    .register(registry);
+            Gauge.builder("login.lockout.active", limiter, LoginAttemptLimiter::getLockedCount)
+                    .description("Username and address pairs currently locked out")
+                    .register(registry);
+            Gauge.builder("login.lockout.tracked", limiter, LoginAttemptLimiter::getTrackedFailureCount)
+                    .description("Username and address pairs with recent failed attempts")
+                    .register(registry);
+        };
+    }
+}
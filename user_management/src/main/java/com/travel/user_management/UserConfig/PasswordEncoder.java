@@ -1,14 +1,125 @@
 package com.travel.user_management.UserConfig;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 
+/**
+ * Configures password hashing for the application.
+ * 
+ * BCrypt runs on a dedicated bounded pool so a burst of signins cannot
+ * starve the request threads serving every other endpoint.
+ * 
+ * Hashes are written as "{bcrypt}" through a DelegatingPasswordEncoder with a
+ * configurable or calibrated cost. Hashes with an older cost or without the
+ * prefix still verify and are upgraded on the next successful signin.
+ */
 @Configuration
 public class PasswordEncoder {
 
-	@Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoder.class);
+
+    /**
+     * The id of the encoder used for new hashes.
+     */
+    private static final String ENCODING_ID = "bcrypt";
+
+    /**
+     * Creates the worker pool used for password hashing and verification.
+     *
+     * @param poolSize      Number of hashing threads; defaults to the number of cores.
+     * @param queueCapacity Number of operations allowed to wait for a thread.
+     * @return The bounded ThreadPoolExecutor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(@Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates the application's password encoder, running BCrypt on the hashing pool.
+     *
+     * @param passwordHashingExecutor The bounded hashing pool.
+     * @param strength                The BCrypt cost factor used for new hashes.
+     * @param calibrate               Whether to derive the cost from the target latency at startup.
+     * @param targetMillis            The target time for a single hash when calibrating.
+     * @param minStrength             The lowest cost accepted when calibrating.
+     * @param bulkConcurrency         Hashing tasks bulk imports may queue or run at once; 0 for half the pool.
+     * @param meterRegistry           The registry timing each hash and verification.
+     * @return The PasswordEncoder bean.
+     */
+    @Bean
+    public BoundedPasswordEncoder bCryptPasswordEncoder(ThreadPoolExecutor passwordHashingExecutor,
+            @Value("${password.bcrypt.strength:10}") int strength,
+            @Value("${password.bcrypt.calibrate:false}") boolean calibrate,
+            @Value("${password.bcrypt.target-millis:50}") long targetMillis,
+            @Value("${password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${password.hashing.bulk-concurrency:0}") int bulkConcurrency, MeterRegistry meterRegistry) {
+        int cost = calibrate ? BCryptStrengthCalibrator.calibrate(targetMillis, minStrength) : strength;
+        log.info("Using BCrypt strength {} for new password hashes", cost);
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(ENCODING_ID,
+                Map.of(ENCODING_ID, new BCryptPasswordEncoder(cost)));
+        // Hashes stored before the "{id}" prefix was introduced are plain BCrypt
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new BoundedPasswordEncoder(new TimedPasswordEncoder(delegatingEncoder, meterRegistry),
+                passwordHashingExecutor, BoundedPasswordEncoder.bulkConcurrency(bulkConcurrency,
+                        passwordHashingExecutor.getMaximumPoolSize()));
+    }
+
+    /**
+     * Exposes pool size, active threads, queue depth and rejections as metrics
+     * under the "password.hashing" prefix.
+     *
+     * @param passwordEncoder The bounded password encoder.
+     * @return The MeterBinder for the hashing pool.
+     */
+    @Bean
+    public MeterBinder passwordHashingMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            new ExecutorServiceMetrics(passwordEncoder.getExecutor(), "password.hashing", Tags.empty())
+                    .bindTo(registry);
+            FunctionCounter.builder("password.hashing.rejected", passwordEncoder,
+                    BoundedPasswordEncoder::getRejectionCount)
+                    .description("Password operations rejected because the hashing queue was full")
+                    .register(registry);
+            Gauge.builder("password.hashing.bulk.in.flight", passwordEncoder, BoundedPasswordEncoder::getBulkInFlight)
+                    .description("Bulk import hashes queued or running on the hashing pool")
+                    .register(registry);
+        };
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
@@ -0,0 +1,151 @@
+package com.travel.user_management.UserConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.travel.user_management.UserService.ReplicaLagPolicy;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Routes read-only transactions to read replicas when
+ * datasource.replica.enabled=true.
+ *
+ * The primary pool is configured from spring.datasource as before. Each URL
+ * in datasource.replica.urls gets a read-only pool with the same settings,
+ * and read-only transactions (the user lookups and summaries in
+ * UserRepository) take their connection round-robin from those pools. All
+ * other transactions, and reads of users written within the lag tolerance,
+ * stay on the primary.
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    /**
+     * Creates the policy keeping recently written users on the primary, or
+     * one that tracks nothing when replicas are disabled.
+     *
+     * @param enabled         Whether reads are routed to replicas.
+     * @param lagToleranceMs  How long after a write a user is read from the primary.
+     * @return The ReplicaLagPolicy bean.
+     */
+    @Bean
+    public ReplicaLagPolicy replicaLagPolicy(@Value("${datasource.replica.enabled:false}") boolean enabled,
+            @Value("${datasource.replica.lag-tolerance-ms:5000}") long lagToleranceMs) {
+        if (!enabled) {
+            return ReplicaLagPolicy.disabled();
+        }
+        return new ReplicaLagPolicy(Duration.ofMillis(lagToleranceMs), Clock.systemUTC());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    static class Routing {
+
+        /**
+         * Creates the primary pool, bound to spring.datasource and
+         * spring.datasource.hikari like the auto-configured one it replaces.
+         *
+         * @param properties The spring.datasource properties.
+         * @return The primary HikariDataSource.
+         */
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        /**
+         * Creates one read-only pool per replica URL, copying the primary's settings.
+         *
+         * @param primaryDataSource The primary pool.
+         * @param urls              JDBC URLs of the replicas.
+         * @param username          Replica user; defaults to the primary's.
+         * @param password          Replica password; defaults to the primary's.
+         * @param meterRegistry     Registry for the replica pool metrics.
+         * @return The DataSource spreading read-only connections over the replicas.
+         */
+        @Bean(destroyMethod = "close")
+        public ReadReplicaDataSource readReplicaDataSource(HikariDataSource primaryDataSource,
+                @Value("${datasource.replica.urls}") List<String> urls,
+                @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+                @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+                MeterRegistry meterRegistry) {
+            List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+            for (int i = 0; i < urls.size(); i++) {
+                HikariConfig config = new HikariConfig();
+                primaryDataSource.copyStateTo(config);
+                config.setJdbcUrl(urls.get(i).trim());
+                config.setUsername(username);
+                config.setPassword(password);
+                config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + i);
+                config.setReadOnly(true);
+                config.setMetricRegistry(null);
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+                replicas.add(new HikariDataSource(config));
+            }
+            return new ReadReplicaDataSource(primaryDataSource, replicas);
+        }
+
+        /**
+         * Creates the DataSource used by JPA. Connections are fetched lazily so
+         * the transaction's read-only flag is known when a pool is picked.
+         *
+         * @param primaryDataSource     The primary pool.
+         * @param readReplicaDataSource The replica pools.
+         * @return The routing DataSource.
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+            dataSource.setReadOnlyDataSource(readReplicaDataSource);
+            return dataSource;
+        }
+
+        /**
+         * Exposes how read-only connections were routed under "datasource.replica".
+         *
+         * @param readReplicaDataSource The replica pools.
+         * @param policy                The lag policy.
+         * @return The MeterBinder for the routing.
+         */
+        @Bean
+        public MeterBinder readReplicaMetrics(ReadReplicaDataSource readReplicaDataSource, ReplicaLagPolicy policy) {
+            return registry -> {
+                FunctionCounter.builder("datasource.replica.connections", readReplicaDataSource,
+                        ReadReplicaDataSource::getReplicaConnectionCount)
+                        .tag("target", "replica")
+                        .description("Read-only connections by the pool that served them")
+                        .register(registry);
+                FunctionCounter.builder("datasource.replica.connections", readReplicaDataSource,
+                        ReadReplicaDataSource::getPrimaryConnectionCount)
+                        .tag("target", "primary")
+                        .description("Read-only connections by the pool that served them")
+                        .register(registry);
+                Gauge.builder("datasource.replica.lag.tracked", policy, ReplicaLagPolicy::getTrackedCount)
+                        .description("Recently written usernames and ids read from the primary")
+                        .register(registry);
+            };
+        }
+    }
+}
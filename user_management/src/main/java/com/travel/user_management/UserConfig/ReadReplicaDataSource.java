@@ -0,0 +1,113 @@
+package com.travel.user_management.UserConfig;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * DataSource handing out connections for read-only transactions, spread
+ * round-robin over the replica pools.
+ *
+ * It is installed as the read-only DataSource of a
+ * LazyConnectionDataSourceProxy, which only fetches a connection once the
+ * transaction's read-only flag is known. Read-write transactions never reach
+ * this class and always use the primary.
+ *
+ * Reads run inside {@link #onPrimary(Supplier)} are served by the primary
+ * instead, for callers that cannot tolerate replication lag.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder primaryConnections = new LongAdder();
+
+    /**
+     * @param primary  The primary DataSource, used for reads forced onto it.
+     * @param replicas The replica pools; must not be empty.
+     */
+    public ReadReplicaDataSource(DataSource primary, List<HikariDataSource> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    /**
+     * Runs the given work with its read-only transactions served by the primary.
+     *
+     * @param work The work to run.
+     * @return the result of the work.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    private DataSource target() {
+        if (PRIMARY_FORCED.get() != null) {
+            primaryConnections.increment();
+            return primary;
+        }
+        replicaConnections.increment();
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return the number of read-only connections served by a replica.
+     */
+    public long getReplicaConnectionCount() {
+        return replicaConnections.sum();
+    }
+
+    /**
+     * @return the number of read-only connections forced onto the primary.
+     */
+    public long getPrimaryConnectionCount() {
+        return primaryConnections.sum();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
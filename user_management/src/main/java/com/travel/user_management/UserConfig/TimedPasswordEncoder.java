@@ -0,0 +1,66 @@
+package com.travel.user_management.UserConfig;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * PasswordEncoder that times each hash and verification of its delegate
+ * under "password.bcrypt", tagged by operation and outcome.
+ * 
+ * The time covers the hashing itself; waiting for a hashing thread shows up
+ * in the executor metrics of the hashing pool instead.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private static final String METRIC = "password.bcrypt";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer mismatchTimer;
+
+    /**
+     * @param delegate The encoder doing the actual hashing.
+     * @param registry The registry the timers are registered with.
+     */
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(registry, "encode", "success");
+        this.matchTimer = timer(registry, "matches", "match");
+        this.mismatchTimer = timer(registry, "matches", "mismatch");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String encoded = delegate.encode(rawPassword);
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        (matches ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+        return Timer.builder(METRIC)
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
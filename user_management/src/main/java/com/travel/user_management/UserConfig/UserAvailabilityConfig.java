@@ -0,0 +1,68 @@
+package com.travel.user_management.UserConfig;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserService.UserAvailabilityService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configures the in-memory filter used for username, email and phone
+ * number availability checks.
+ */
+@Configuration
+public class UserAvailabilityConfig {
+
+    /**
+     * Creates the counting Bloom filter. Each user contributes three entries
+     * (username, email and phone number), so it is sized for three times the
+     * expected number of users.
+     *
+     * @param expectedUsers     The number of users the filter is sized for.
+     * @param falsePositiveRate The target false-positive rate at that size.
+     * @return The CountingBloomFilter bean.
+     */
+    @Bean
+    public CountingBloomFilter userAvailabilityFilter(
+            @Value("${user.availability.filter.expected-users:1000000}") long expectedUsers,
+            @Value("${user.availability.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new CountingBloomFilter(expectedUsers * 3, falsePositiveRate);
+    }
+
+    /**
+     * Exposes the filter's size and hit counters under "user.availability".
+     *
+     * @param availabilityService The service using the filter.
+     * @return The MeterBinder for availability checks.
+     */
+    @Bean
+    public MeterBinder userAvailabilityMetrics(UserAvailabilityService availabilityService) {
+        return registry -> {
+            FunctionCounter.builder("user.availability.filter.negatives", availabilityService,
+                    UserAvailabilityService::getNegativeCount)
+                    .description("Availability checks answered by the filter without a database query")
+                    .register(registry);
+            FunctionCounter.builder("user.availability.filter.positives", availabilityService,
+                    UserAvailabilityService::getPositiveCount)
+                    .description("Availability checks the filter passed on to the database")
+                    .register(registry);
+            FunctionCounter.builder("user.availability.filter.false.positives", availabilityService,
+                    UserAvailabilityService::getFalsePositiveCount)
+                    .description("Filter positives the database showed to be free")
+                    .register(registry);
+            Gauge.builder("user.availability.filter.false.positive.rate", availabilityService,
+                    UserAvailabilityService::getFalsePositiveRate)
+                    .description("Share of filter positives that were false")
+                    .register(registry);
+            Gauge.builder("user.availability.filter.size", availabilityService,
+                    UserAvailabilityService::getFilterSizeInBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
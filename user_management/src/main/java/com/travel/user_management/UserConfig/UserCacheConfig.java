@@ -0,0 +1,80 @@
+package com.travel.user_management.UserConfig;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+
+import com.travel.user_management.UserCache.LocalUserDetailsCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configures the cache that sits in front of the user lookup on the
+ * authentication path.
+ * 
+ * The cache is a plain {@link UserCache} bean, so a distributed
+ * implementation can be plugged in by replacing this bean.
+ */
+@Configuration
+public class UserCacheConfig {
+
+    /**
+     * Creates the local user cache, or a no-op cache when disabled.
+     *
+     * @param enabled    Whether caching is enabled.
+     * @param maxSize    Maximum number of cached users.
+     * @param ttlSeconds Time-to-live of each entry in seconds.
+     * @return The UserCache bean.
+     */
+    @Bean
+    public UserCache userCache(@Value("${user.cache.enabled:true}") boolean enabled,
+            @Value("${user.cache.max-size:10000}") int maxSize,
+            @Value("${user.cache.ttl-seconds:150}") long ttlSeconds) {
+        if (!enabled) {
+            return new NullUserCache();
+        }
+        return new LocalUserDetailsCache(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * Exposes the local cache's counters, hit ratio and size under
+     * "user.cache". Other UserCache implementations export nothing here.
+     *
+     * @param userCache The user cache.
+     * @return The MeterBinder for the cache.
+     */
+    @Bean
+    public MeterBinder userCacheMetrics(UserCache userCache) {
+        return registry -> {
+            if (!(userCache instanceof LocalUserDetailsCache cache)) {
+                return;
+            }
+            FunctionCounter.builder("user.cache.hits", cache, LocalUserDetailsCache::getHitCount)
+                    .description("User lookups served from the cache")
+                    .register(registry);
+            FunctionCounter.builder("user.cache.misses", cache, LocalUserDetailsCache::getMissCount)
+                    .description("User lookups that went to the database")
+                    .register(registry);
+            FunctionCounter.builder("user.cache.evictions", cache, LocalUserDetailsCache::getEvictionCount)
+                    .description("Entries dropped because they expired or the cache was full")
+                    .register(registry);
+            Gauge.builder("user.cache.hit.ratio", cache, UserCacheConfig::hitRatio)
+                    .description("Share of lookups served from the cache")
+                    .register(registry);
+            Gauge.builder("user.cache.size", cache, LocalUserDetailsCache::size)
+                    .register(registry);
+        };
+    }
+
+    private static double hitRatio(LocalUserDetailsCache cache) {
+        long hits = cache.getHitCount();
+        long lookups = hits + cache.getMissCount();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -61,6 +61,13 @@ public class UserConfig {
             .authorizeHttpRequests(request -> request
                 .requestMatchers("/user/signup").permitAll() // Public endpoint for user registration
                 .requestMatchers("/user/signin").permitAll() // Public endpoint for user login
+                .requestMatchers("/user/token/refresh").permitAll() // Public endpoint for exchanging refresh tokens
+                .requestMatchers("/user/available").permitAll() // Public availability check for signup forms
+                .requestMatchers("/user/bulk-signup").hasRole("ADMIN") // Creates accounts in bulk and uses the bulk hashing permits
+                .requestMatchers("/.well-known/jwks.json").permitAll() // Public keys for verifying tokens
+                .requestMatchers("/actuator/health").permitAll() // Public health checks for load balancers
+                .requestMatchers("/actuator/prometheus").hasRole("ADMIN") // Metrics name internals; scrape with an admin account over HTTP Basic
+                .requestMatchers("/error").permitAll() // Let error statuses (409, 429, 503 from @ResponseStatus exceptions) reach the client instead of a login redirect
                 .anyRequest().authenticated() // All other endpoints require authentication
             )
             
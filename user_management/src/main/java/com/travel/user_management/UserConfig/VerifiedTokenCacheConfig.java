@@ -0,0 +1,69 @@
+package com.travel.user_management.UserConfig;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.travel.user_management.JwtAuth.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configures the cache of verified tokens used by the JWT filter, unless
+ * disabled with jwt.verified-token-cache.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jwt.verified-token-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class VerifiedTokenCacheConfig {
+
+    /**
+     * Creates the verified-token cache.
+     *
+     * @param maxSize Maximum number of tokens kept in memory.
+     * @return The VerifiedTokenCache bean.
+     */
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(@Value("${jwt.verified-token-cache.max-size:10000}") int maxSize) {
+        return new VerifiedTokenCache(maxSize);
+    }
+
+    /**
+     * Exposes the cache's counters, hit ratio and memory estimate under
+     * "jwt.verified.token.cache".
+     *
+     * @param cache The verified-token cache.
+     * @return The MeterBinder for the cache.
+     */
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache cache) {
+        return registry -> {
+            FunctionCounter.builder("jwt.verified.token.cache.hits", cache, VerifiedTokenCache::getHitCount)
+                    .description("Requests whose token was served from the cache")
+                    .register(registry);
+            FunctionCounter.builder("jwt.verified.token.cache.misses", cache, VerifiedTokenCache::getMissCount)
+                    .description("Requests whose token had to be verified")
+                    .register(registry);
+            FunctionCounter.builder("jwt.verified.token.cache.evictions", cache, VerifiedTokenCache::getEvictionCount)
+                    .description("Entries dropped because they expired or the cache was full")
+                    .register(registry);
+            Gauge.builder("jwt.verified.token.cache.hit.ratio", cache, VerifiedTokenCacheConfig::hitRatio)
+                    .description("Share of lookups served from the cache")
+                    .register(registry);
+            Gauge.builder("jwt.verified.token.cache.size", cache, VerifiedTokenCache::size)
+                    .register(registry);
+            Gauge.builder("jwt.verified.token.cache.memory", cache, VerifiedTokenCache::getEstimatedBytes)
+                    .description("Estimated heap held by cached tokens")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    private static double hitRatio(VerifiedTokenCache cache) {
+        long hits = cache.getHitCount();
+        long lookups = hits + cache.getMissCount();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,45 @@
+package com.travel.user_management.UserController;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travel.user_management.JwtAuth.JwtSigningKeys;
+
+/**
+ * Controller publishing the public keys that verify tokens issued by this
+ * service, so other services can verify them locally.
+ */
+@RestController
+public class JwksController {
+
+    private final Map<String, Object> jwks;
+    private final CacheControl cacheControl;
+
+    /**
+     * Constructor building the key set once; the keys do not change while running.
+     *
+     * @param signingKeys The keys used to sign tokens.
+     * @param maxAgeSeconds How long clients may cache the key set.
+     */
+    public JwksController(JwtSigningKeys signingKeys,
+            @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.jwks = signingKeys.toJwks();
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    /**
+     * Returns the JSON Web Key Set. Empty while tokens are signed with HS512.
+     *
+     * @return A ResponseEntity with the key set and cache headers.
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = "application/jwk-set+json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(jwks);
+    }
+}
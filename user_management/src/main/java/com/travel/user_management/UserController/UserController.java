@@ -1,38 +1,85 @@
 package com.travel.user_management.UserController;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import com.travel.user_management.UserDto.BulkImportReport;
 import com.travel.user_management.UserDto.LoginRequest;
 import com.travel.user_management.UserDto.LoginResponse;
+import com.travel.user_management.UserDto.RefreshTokenRequest;
 import com.travel.user_management.UserDto.UserDto;
-import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserDto.UserPage;
+import com.travel.user_management.UserDto.UserSummary;
+import com.travel.user_management.UserService.BulkUserImportService;
+import com.travel.user_management.UserService.UserAvailabilityService;
 import com.travel.user_management.UserService.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 /**
  * Controller class for managing user-related operations.
  * 
  * Provides RESTful endpoints for user actions such as signup, signin, 
- * fetching users by ID, fetching all users, updating user details, 
+ * fetching users by ID, listing and exporting users, updating user details, 
  * and deleting users.
  */
 @RestController
 @RequestMapping("/user")
 public class UserController {
 
+    /**
+     * Media type of the streaming user export: one JSON document per line.
+     */
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Prefix of the Authorization header carrying a JWT.
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Media type of CSV bulk imports.
+     */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final UserService userService;
+    private final BulkUserImportService bulkUserImportService;
+    private final UserAvailabilityService availabilityService;
+    private final ObjectWriter userWriter;
     
     /**
      * Constructor to inject the UserService dependency.
      *
      * @param userService The service layer to handle user-related operations.
+     * @param bulkUserImportService The service handling bulk user imports.
+     * @param availabilityService The service answering availability checks.
+     * @param objectMapper The JSON mapper used to write the streaming export.
      */
-    public UserController(UserService userService) {
+    public UserController(UserService userService, BulkUserImportService bulkUserImportService,
+            UserAvailabilityService availabilityService, ObjectMapper objectMapper) {
         this.userService = userService;
+        this.bulkUserImportService = bulkUserImportService;
+        this.availabilityService = availabilityService;
+        this.userWriter = objectMapper.writerFor(UserSummary.class);
     }
 
     /**
@@ -47,18 +94,95 @@ public class UserController {
         return ResponseEntity.ok("User Signup Successful");
     }
 
+    /**
+     * Checks whether a username, email and/or phone number is still free, for
+     * signup forms. Only the supplied parameters are checked.
+     * 
+     * @param username The username to check.
+     * @param email The email address to check.
+     * @param phoneNumber The phone number to check.
+     * @return A ResponseEntity mapping each supplied field to true if it is available.
+     */
+    @GetMapping("/available")
+    public ResponseEntity<Map<String, Boolean>> isAvailable(@RequestParam(required = false) String username,
+            @RequestParam(required = false) String email, @RequestParam(required = false) String phoneNumber) {
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        if (username != null) {
+            availability.put("username", availabilityService.isUsernameAvailable(username));
+        }
+        if (email != null) {
+            availability.put("email", availabilityService.isEmailAvailable(email));
+        }
+        if (phoneNumber != null) {
+            availability.put("phoneNumber", availabilityService.isPhoneNumberAvailable(phoneNumber));
+        }
+        return ResponseEntity.ok(availability);
+    }
+
+    /**
+     * Handles bulk user signup from a CSV or NDJSON upload.
+     * 
+     * @param contentType The media type of the upload (text/csv or application/x-ndjson).
+     * @param body The streamed request body.
+     * @return A ResponseEntity with the per-row import report.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PostMapping(value = "/bulk-signup", consumes = { TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<BulkImportReport> bulkSignup(@RequestHeader("Content-Type") String contentType,
+            InputStream body) throws IOException {
+        BulkUserImportService.Format format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                        ? BulkUserImportService.Format.CSV
+                        : BulkUserImportService.Format.NDJSON;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(bulkUserImportService.importUsers(reader, format));
+        }
+    }
+
     /**
      * Handles user signin requests.
      * 
      * @param loginRequest The DTO containing login credentials (username and password).
+     * @param request The HTTP request, used to rate limit by client address.
      * @return A ResponseEntity with a LoginResponse containing token and user details.
      */
     @PostMapping("/signin")
-    public ResponseEntity<LoginResponse> signin(@RequestBody LoginRequest loginRequest) {
-        LoginResponse loginResponse = userService.signin(loginRequest);
+    public ResponseEntity<LoginResponse> signin(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        LoginResponse loginResponse = userService.signin(loginRequest, request.getRemoteAddr());
         return ResponseEntity.ok(loginResponse);
     }
 
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     * 
+     * @param refreshTokenRequest The DTO containing the refresh token.
+     * @return A ResponseEntity with a LoginResponse containing the new tokens.
+     */
+    @PostMapping("/token/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+        LoginResponse loginResponse = userService.refresh(refreshTokenRequest.getRefreshToken());
+        return ResponseEntity.ok(loginResponse);
+    }
+
+    /**
+     * Logs the caller out by revoking the bearer token of the request and,
+     * when one is supplied, the refresh token issued with it.
+     * 
+     * @param authorization The Authorization header carrying the bearer token.
+     * @param refreshTokenRequest Optional DTO containing the refresh token to revoke.
+     * @return A ResponseEntity with a success message.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestHeader("Authorization") String authorization,
+            @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+        if (!authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Bearer token required");
+        }
+        String refreshToken = refreshTokenRequest == null ? null : refreshTokenRequest.getRefreshToken();
+        userService.logout(authorization.substring(BEARER_PREFIX.length()), refreshToken);
+        return ResponseEntity.ok("User Logout Successful");
+    }
+
     /**
      * Fetches a user by their ID.
      * 
@@ -66,8 +190,8 @@ public class UserController {
      * @return A ResponseEntity containing the user details or a NOT_FOUND status if the user does not exist.
      */
     @GetMapping("/getuserbyid/{Id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long Id) {
-        User user = userService.getUserById(Id);
+    public ResponseEntity<UserSummary> getUserById(@PathVariable Long Id) {
+        UserSummary user = userService.getUserById(Id);
         if (user == null) {
             return new ResponseEntity<>(user, HttpStatus.NOT_FOUND);
         }
@@ -75,26 +199,79 @@ public class UserController {
     }
 
     /**
-     * Fetches all users in the system.
+     * Fetches users in the system, ordered by id and capped at a hard limit.
+     * Use /user/users or /user/export to go through the whole table.
      * 
-     * @return A ResponseEntity containing a list of all users.
+     * @param limit The maximum number of users to return (at most UserService.MAX_USERS_LIMIT).
+     * @return A ResponseEntity containing a list of users.
      */
     @GetMapping("/getallusers")
-    public ResponseEntity<List<User>> getAllUser() {
-        List<User> users = userService.getAllUser();
+    public ResponseEntity<List<UserSummary>> getAllUser(@RequestParam(defaultValue = "100") int limit) {
+        List<UserSummary> users = userService.getAllUser(limit);
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Fetches one page of users using keyset pagination.
+     * 
+     * @param size The page size (at most UserService.MAX_USERS_LIMIT).
+     * @param cursor The nextCursor of the previous page; omit for the first page.
+     * @return A ResponseEntity containing the page and the cursor of the next page.
+     */
+    @GetMapping("/users")
+    public ResponseEntity<UserPage<UserSummary>> getUserPage(@RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Long cursor) {
+        return ResponseEntity.ok(userService.getUserPage(cursor, size));
+    }
+
+    /**
+     * Streams every user as newline-delimited JSON, writing rows as they are fetched
+     * so memory use stays constant regardless of the table size.
+     * 
+     * @return A ResponseEntity streaming one user per line.
+     */
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = (OutputStream out) -> {
+            userService.exportUsers(user -> {
+                try {
+                    out.write(userWriter.writeValueAsBytes(user));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
     /**
      * Updates a user's details by their ID.
      * 
      * @param Id The ID of the user to be updated.
      * @param userDto The DTO containing updated user details.
-     * @return A ResponseEntity containing the updated user object.
+     * @return A ResponseEntity containing the public details of the updated user.
      */
     @PutMapping("/updateuser/{Id}")
-    public ResponseEntity<User> updateUserById(@PathVariable Long Id, @RequestBody UserDto userDto) {
-        User user = userService.updateUserById(Id, userDto);
+    public ResponseEntity<UserSummary> updateUserById(@PathVariable Long Id, @RequestBody UserDto userDto) {
+        UserSummary user = userService.updateUserById(Id, userDto);
+        return ResponseEntity.ok(user);
+    }
+
+    /**
+     * Partially updates a user's details by their ID. Only the supplied fields change,
+     * and the password is re-hashed only when a new one is provided.
+     * 
+     * @param Id The ID of the user to be updated.
+     * @param userDto The DTO containing the fields to change.
+     * @return A ResponseEntity containing the public details of the updated user.
+     */
+    @PatchMapping("/updateuser/{Id}")
+    public ResponseEntity<UserSummary> patchUserById(@PathVariable Long Id, @RequestBody UserDto userDto) {
+        UserSummary user = userService.patchUserById(Id, userDto);
         return ResponseEntity.ok(user);
     }
 
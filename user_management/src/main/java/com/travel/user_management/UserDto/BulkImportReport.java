@@ -0,0 +1,56 @@
+package com.travel.user_management.UserDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarizing a bulk user import.
+ * 
+ * Contains the totals and a result for every row of the input, in input order.
+ */
+public class BulkImportReport {
+
+    private long created;
+
+    private long failed;
+
+    private final List<BulkImportRowResult> results = new ArrayList<>();
+
+    /**
+     * Records the outcome of one row.
+     * 
+     * @param result The row result to add.
+     */
+    public void add(BulkImportRowResult result) {
+        results.add(result);
+        if (result.getStatus() == BulkImportRowResult.Status.CREATED) {
+            created++;
+        } else {
+            failed++;
+        }
+    }
+
+    /**
+     * Orders the results by their input row.
+     */
+    public void sortByRow() {
+        results.sort(Comparator.comparingLong(BulkImportRowResult::getRow));
+    }
+
+    public long getTotal() {
+        return created + failed;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<BulkImportRowResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,62 @@
+package com.travel.user_management.UserDto;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of one row of a bulk user import.
+ */
+public class BulkImportRowResult {
+
+    /**
+     * Outcome of importing a single row.
+     */
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    private final long row;
+
+    private final String username;
+
+    private final Status status;
+
+    private final String message;
+
+    /**
+     * Constructor to initialize the row result.
+     * 
+     * @param row The 1-based position of the record in the input, excluding any header.
+     * @param username The username of the record, if present.
+     * @param status Whether the user was created.
+     * @param message The reason the row failed, or null when it was created.
+     */
+    public BulkImportRowResult(long row, String username, Status status, String message) {
+        this.row = row;
+        this.username = username;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static BulkImportRowResult created(long row, String username) {
+        return new BulkImportRowResult(row, username, Status.CREATED, null);
+    }
+
+    public static BulkImportRowResult failed(long row, String username, String message) {
+        return new BulkImportRowResult(row, username, Status.FAILED, message);
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -3,14 +3,19 @@ package com.travel.user_management.UserDto;
 /**
  * Data Transfer Object (DTO) for handling login responses.
  * 
- * Contains the token issued upon successful authentication,
- * which is used for subsequent API calls.
+ * Contains the short-lived access token issued upon successful authentication,
+ * which is used for subsequent API calls, and the refresh token used to
+ * obtain new access tokens without signing in again.
  */
 public class LoginResponse {
 
   
     private String token;
 
+    private String refreshToken;
+
+    private long expiresIn;
+
     /**
      * Constructor to initialize the LoginResponse with a token.
      * 
@@ -20,6 +25,19 @@ public class LoginResponse {
         this.token = token;
     }
 
+    /**
+     * Constructor to initialize the LoginResponse with an access and a refresh token.
+     * 
+     * @param token The JWT access token.
+     * @param refreshToken The opaque refresh token.
+     * @param expiresIn The validity of the access token in seconds.
+     */
+    public LoginResponse(String token, String refreshToken, long expiresIn) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
     /**
      * Gets the token issued in the login response.
      * 
@@ -37,4 +55,40 @@ public class LoginResponse {
     public void setToken(String token) {
         this.token = token;
     }
+
+    /**
+     * Gets the refresh token issued in the login response.
+     * 
+     * @return The refresh token as a String.
+     */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /**
+     * Sets the refresh token in the login response.
+     * 
+     * @param refreshToken The refresh token to set.
+     */
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /**
+     * Gets the validity of the access token.
+     * 
+     * @return The number of seconds until the access token expires.
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    /**
+     * Sets the validity of the access token.
+     * 
+     * @param expiresIn The number of seconds until the access token expires.
+     */
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
 }
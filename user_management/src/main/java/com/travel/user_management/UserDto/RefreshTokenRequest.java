@@ -0,0 +1,27 @@
+package com.travel.user_management.UserDto;
+
+/**
+ * Data Transfer Object (DTO) for exchanging or revoking a refresh token.
+ */
+public class RefreshTokenRequest {
+
+    private String refreshToken;
+
+    /**
+     * Gets the refresh token provided in the request.
+     * 
+     * @return The refresh token as a String.
+     */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /**
+     * Sets the refresh token for the request.
+     * 
+     * @param refreshToken The refresh token to set.
+     */
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
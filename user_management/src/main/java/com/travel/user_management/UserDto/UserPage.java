@@ -0,0 +1,45 @@
+package com.travel.user_management.UserDto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a keyset-paginated list of users.
+ * 
+ * Contains the users of the current page and the cursor to pass
+ * to fetch the next page, which is null when there are no more users.
+ */
+public class UserPage<T> {
+
+    private final List<T> users;
+
+    private final Long nextCursor;
+
+    /**
+     * Constructor to initialize the page.
+     * 
+     * @param users The users of this page.
+     * @param nextCursor The cursor of the next page, or null on the last page.
+     */
+    public UserPage(List<T> users, Long nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the users of this page.
+     * 
+     * @return The users as a List.
+     */
+    public List<T> getUsers() {
+        return users;
+    }
+
+    /**
+     * Gets the cursor to request the next page with.
+     * 
+     * @return The id of the last user on this page, or null on the last page.
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,80 @@
+package com.travel.user_management.UserDto;
+
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+
+/**
+ * Read-only projection of a user's public details.
+ * 
+ * Selected directly by the repository so only the public columns are read,
+ * and returned by the API instead of the User entity so the password hash
+ * and security internals are never serialized.
+ */
+public class UserSummary {
+
+    private final Long id;
+
+    private final String name;
+
+    private final String username;
+
+    private final String email;
+
+    private final String phoneNumber;
+
+    private final Role role;
+
+    /**
+     * Constructor used by the repository's JPQL constructor expressions.
+     * 
+     * @param id The user's ID.
+     * @param name The user's full name.
+     * @param username The user's username.
+     * @param email The user's email address.
+     * @param phoneNumber The user's phone number.
+     * @param role The user's role.
+     */
+    public UserSummary(Long id, String name, String username, String email, String phoneNumber, Role role) {
+        this.id = id;
+        this.name = name;
+        this.username = username;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.role = role;
+    }
+
+    /**
+     * Creates a summary from an already loaded entity.
+     * 
+     * @param user The user entity.
+     * @return The public details of the user.
+     */
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getUsername(), user.getEmail(),
+                user.getPhoneNumber(), user.getRole());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+}
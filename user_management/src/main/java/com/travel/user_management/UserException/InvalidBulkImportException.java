@@ -0,0 +1,17 @@
+package com.travel.user_management.UserException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBulkImportException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = -3925508372616029184L;
+
+	public InvalidBulkImportException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,17 @@
+package com.travel.user_management.UserException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class InvalidRefreshTokenException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 2871906412265573092L;
+
+	public InvalidRefreshTokenException(String message) {
+		super(message);
+	}
+}
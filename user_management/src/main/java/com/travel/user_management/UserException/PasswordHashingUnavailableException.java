@@ -0,0 +1,17 @@
+package com.travel.user_management.UserException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 5317462001925470153L;
+
+	public PasswordHashingUnavailableException(String message) {
+		super(message);
+	}
+}
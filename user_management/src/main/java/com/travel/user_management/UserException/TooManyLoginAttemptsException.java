@@ -0,0 +1,17 @@
+package com.travel.user_management.UserException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 4620917735530184261L;
+
+	public TooManyLoginAttemptsException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,121 @@
+package com.travel.user_management.UserModel;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * This class represents an opaque refresh token issued at signin.
+ * It maps to the "refresh_tokens" table in the database.
+ * 
+ * Only a SHA-256 digest of the token is stored. Tokens rotate on every use;
+ * all tokens descending from one signin share a family id, so reuse of an
+ * already rotated token can revoke the whole family.
+ * 
+ * Tokens belong to the user id rather than the username, so a token cannot
+ * carry over to another account that later takes a freed username.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+		uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+		indexes = {
+				@Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+				@Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+				@Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at") })
+public class RefreshToken {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "refresh_token_id")
+	private Long id;
+
+	/**
+	 * Hex-encoded SHA-256 digest of the token handed to the client.
+	 */
+	@Column(name = "token_hash", nullable = false, length = 64)
+	private String tokenHash;
+
+	/**
+	 * Identifier shared by every token rotated from the same signin.
+	 */
+	@Column(name = "family_id", nullable = false, length = 36)
+	private String familyId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	/**
+	 * Set once the token has been exchanged; presenting it again is reuse.
+	 */
+	@Column(name = "used", nullable = false)
+	private boolean used;
+
+	@Column(name = "revoked", nullable = false)
+	private boolean revoked;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getTokenHash() {
+		return tokenHash;
+	}
+
+	public void setTokenHash(String tokenHash) {
+		this.tokenHash = tokenHash;
+	}
+
+	public String getFamilyId() {
+		return familyId;
+	}
+
+	public void setFamilyId(String familyId) {
+		this.familyId = familyId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(Instant expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isUsed() {
+		return used;
+	}
+
+	public void setUsed(boolean used) {
+		this.used = used;
+	}
+
+	public boolean isRevoked() {
+		return revoked;
+	}
+
+	public void setRevoked(boolean revoked) {
+		this.revoked = revoked;
+	}
+}
@@ -2,6 +2,12 @@ package com.travel.user_management.UserModel;
 
 import java.util.Collection;
 import java.util.Collections;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +19,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Email;
 
 /**
@@ -20,12 +27,35 @@ import jakarta.validation.constraints.Email;
  * It maps to the "users" table in the database.
  *  The class is annotated with JPA and Lombok annotations for simplified persistence and 
  *  reduced boilerplate code.
+ *  Updates only write the columns that changed.
+ *  Users are kept in the Hibernate second-level cache, by id and by username,
+ *  so repeated lookups are served from memory (see ehcache.xml).
  */
 
 @Entity
-@Table(name = "users")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
+@Table(name = "users", uniqueConstraints = {
+		@UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+		@UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+		@UniqueConstraint(name = User.UK_PHONE_NUMBER, columnNames = "phone_number") })
 public class User implements UserDetails{
 
+	/**
+	 * Names of the unique constraints, used to tell which field a duplicate
+	 * insert or update collided on.
+	 */
+	public static final String UK_USERNAME = "uk_users_username";
+	public static final String UK_EMAIL = "uk_users_email";
+	public static final String UK_PHONE_NUMBER = "uk_users_phone_number";
+
+	/**
+	 * Second-level cache regions for users by id and by username.
+	 */
+	public static final String CACHE_REGION = "users";
+	public static final String NATURAL_ID_CACHE_REGION = "users-by-username";
+
 	/**
 	 * 
 	 */
@@ -52,22 +82,24 @@ public class User implements UserDetails{
 	 * The email address of the user. This field must be unique and not null. It
 	 * also includes validation to ensure a valid email format.
 	 */
-	@Column(name = "email", nullable = false, unique = true)
+	@Column(name = "email", nullable = false)
 	@Email(message = "Email is not valid")
 	private String email;
 
 	/**
 	 * The username for the user. This field is required, unique, and cannot be
-	 * null.
+	 * null. It is the natural id users are looked up by; it may be changed by
+	 * an update.
 	 */
-	@Column(name = "username", nullable = false, unique = true)
+	@NaturalId(mutable = true)
+	@Column(name = "username", nullable = false)
 	private String username;
 
 	/**
 	 * The phone number of the user. It must be unique and cannot be null. This can
 	 * be used for contact purposes or two-factor authentication.
 	 */
-	@Column(name = "phone_number", nullable = false, unique = true)
+	@Column(name = "phone_number", nullable = false)
 	private String phoneNumber;
 
 	/**
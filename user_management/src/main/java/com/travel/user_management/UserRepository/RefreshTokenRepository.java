@@ -0,0 +1,45 @@
+package com.travel.user_management.UserRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travel.user_management.UserModel.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken,Long> {
+
+	Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+	/**
+	 * Atomically marks a token as used. Returns 0 if it had already been used,
+	 * which means the token is being replayed.
+	 */
+	@Transactional
+	@Modifying
+	@Query("update RefreshToken t set t.used = true where t.id = :id and t.used = false")
+	int markUsed(@Param("id") Long id);
+
+	@Transactional
+	@Modifying
+	@Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId")
+	int revokeFamily(@Param("familyId") String familyId);
+
+	/**
+	 * Revokes every token family of a user, e.g. when the user is deleted,
+	 * renamed or changes password.
+	 */
+	@Transactional
+	@Modifying
+	@Query("update RefreshToken t set t.revoked = true where t.userId = :userId and t.revoked = false")
+	int revokeAllForUser(@Param("userId") Long userId);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RefreshToken t where t.expiresAt < :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,27 @@
+package com.travel.user_management.UserRepository;
+
+import java.util.Optional;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travel.user_management.UserModel.User;
+
+/**
+ * User lookups that control how Hibernate's second-level cache is used.
+ */
+public interface UserLookupRepository {
+
+	/**
+	 * Finds a user by the username natural id, resolved through the natural-id
+	 * cache instead of a query so hot users are served from memory.
+	 */
+	@Transactional(readOnly = true)
+	Optional<User> findByUsername(String username);
+
+	/**
+	 * Finds a user by id in the database, skipping the second-level cache,
+	 * for reads a write depends on. The cache may hold an entry loaded from a
+	 * replica or changed by another instance.
+	 */
+	Optional<User> findCurrentById(Long id);
+}
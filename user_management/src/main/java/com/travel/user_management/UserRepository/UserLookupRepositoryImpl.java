@@ -0,0 +1,33 @@
+package com.travel.user_management.UserRepository;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import com.travel.user_management.UserModel.User;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class UserLookupRepositoryImpl implements UserLookupRepository {
+
+	private static final Map<String, Object> BYPASS_CACHE =
+			Map.of("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		return entityManager.unwrap(Session.class)
+				.bySimpleNaturalId(User.class)
+				.loadOptional(username);
+	}
+
+	@Override
+	public Optional<User> findCurrentById(Long id) {
+		return Optional.ofNullable(entityManager.find(User.class, id, BYPASS_CACHE));
+	}
+}
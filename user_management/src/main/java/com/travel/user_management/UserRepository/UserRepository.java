@@ -1,12 +1,66 @@
 package com.travel.user_management.UserRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.travel.user_management.UserDto.UserSummary;
 import com.travel.user_management.UserModel.User;
 
-public interface UserRepository extends JpaRepository<User,Long> {
+/**
+ * Lookups marked read-only may be served by a read replica when replicas are
+ * enabled (see ReadReplicaConfig); everything else runs on the primary.
+ */
+public interface UserRepository extends JpaRepository<User,Long>, UserLookupRepository {
 
-	Optional<User> findByUsername(String username);
+	String SUMMARY_SELECT = "select new com.travel.user_management.UserDto.UserSummary("
+			+ "u.id, u.name, u.username, u.email, u.phoneNumber, u.role) from User u";
+
+	boolean existsByUsername(String username);
+
+	boolean existsByEmail(String email);
+
+	boolean existsByPhoneNumber(String phoneNumber);
+
+	/**
+	 * Returns the public details of the first users ordered by id, up to the given limit.
+	 */
+	@Transactional(readOnly = true)
+	@Query(SUMMARY_SELECT + " order by u.id")
+	List<UserSummary> findSummaries(Limit limit);
+
+	/**
+	 * Keyset (seek) page: the public details of the users after the given id, ordered by id.
+	 */
+	@Transactional(readOnly = true)
+	@Query(SUMMARY_SELECT + " where u.id > :cursor order by u.id")
+	List<UserSummary> findSummariesAfter(@Param("cursor") Long cursor, Limit limit);
+
+	/**
+	 * Set-based duplicate checks used by bulk imports: return the given values that are already taken.
+	 */
+	@Query("select u.username from User u where u.username in :usernames")
+	List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+	@Query("select u.email from User u where u.email in :emails")
+	List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+	@Query("select u.phoneNumber from User u where u.phoneNumber in :phoneNumbers")
+	List<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+	/**
+	 * Writes only the password column, leaving the other fields as they are in the database.
+	 *
+	 * @return the number of rows updated.
+	 */
+	@Transactional
+	@Modifying
+	@Query("update User u set u.password = :password where u.id = :id")
+	int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
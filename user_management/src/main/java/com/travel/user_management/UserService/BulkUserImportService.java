@@ -0,0 +1,329 @@
+package com.travel.user_management.UserService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.user_management.UserConfig.BoundedPasswordEncoder;
+import com.travel.user_management.UserDto.BulkImportReport;
+import com.travel.user_management.UserDto.BulkImportRowResult;
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserException.InvalidBulkImportException;
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserRepository.UserRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports large lists of users in one request.
+ * 
+ * Key Features:
+ * - Streams CSV or NDJSON input and processes it in fixed-size chunks, so
+ *   memory use does not depend on the size of the upload.
+ * - Applies the User entity's Bean Validation constraints to every row, as a
+ *   signup would, and reports violations per row.
+ * - Checks duplicates per chunk with set-based queries instead of one probe per row.
+ * - Hashes the chunk's passwords in parallel on the password hashing pool.
+ * - Writes each chunk with a single JDBC batch insert.
+ * 
+ * The insert goes through JDBC rather than Hibernate: with IDENTITY ids
+ * Hibernate must insert row by row to read back each key, whereas a JDBC
+ * batch (rewritten into multi-row inserts by the MySQL driver) does not
+ * need the generated ids at all.
+ */
+@Service
+public class BulkUserImportService {
+
+	/**
+	 * Supported input formats.
+	 */
+	public enum Format {
+		CSV,
+		NDJSON
+	}
+
+	private static final String INSERT_SQL =
+			"insert into users (name, email, username, phone_number, password, role) values (?, ?, ?, ?, ?, ?)";
+
+	private static final List<String> CSV_COLUMNS = List.of("name", "username", "email", "phonenumber", "password");
+
+	private final UserRepository userRepository;
+	private final BoundedPasswordEncoder passwordEncoder;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final UserAvailabilityService availabilityService;
+	private final int batchSize;
+
+	public BulkUserImportService(UserRepository userRepository, BoundedPasswordEncoder passwordEncoder,
+			JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+			Validator validator, UserAvailabilityService availabilityService, @Value("${user.bulk-import.batch-size:500}") int batchSize) {
+		this.userRepository=userRepository;
+		this.passwordEncoder=passwordEncoder;
+		this.jdbcTemplate=jdbcTemplate;
+		this.transactionTemplate=transactionTemplate;
+		this.objectMapper=objectMapper;
+		this.validator=validator;
+		this.availabilityService=availabilityService;
+		this.batchSize=batchSize;
+	}
+
+	/**
+	 * Imports every record of the input and reports the outcome of each row.
+	 * 
+	 * CSV input must start with a header naming the columns name, username,
+	 * email, phoneNumber and password (in any order). NDJSON input holds one
+	 * UserDto object per line. Blank lines are ignored.
+	 * 
+	 * @param reader The input to read.
+	 * @param format The format of the input.
+	 * @return The import report.
+	 * @throws InvalidBulkImportException if the CSV header lacks a required column.
+	 */
+	public BulkImportReport importUsers(BufferedReader reader, Format format) {
+		BulkImportReport report=new BulkImportReport();
+		List<Row> chunk=new ArrayList<>(batchSize);
+		try {
+			Map<String, Integer> header=format==Format.CSV ? readCsvHeader(reader) : null;
+			long rowNumber=0;
+			String line;
+			while((line=reader.readLine())!=null) {
+				if(line.isBlank()) {
+					continue;
+				}
+				rowNumber++;
+				try {
+					chunk.add(new Row(rowNumber, format==Format.CSV ? parseCsvRow(line, header) : parseJsonRow(line)));
+				} catch (IllegalArgumentException e) {
+					report.add(BulkImportRowResult.failed(rowNumber, null, e.getMessage()));
+				}
+				if(chunk.size()>=batchSize) {
+					importChunk(chunk, report);
+					chunk.clear();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if(!chunk.isEmpty()) {
+			importChunk(chunk, report);
+		}
+		report.sortByRow();
+		return report;
+	}
+
+	/**
+	 * Validates, de-duplicates, hashes and inserts one chunk of rows.
+	 */
+	private void importChunk(List<Row> chunk, BulkImportReport report) {
+		List<Row> candidates=new ArrayList<>(chunk.size());
+		Set<String> usernames=new HashSet<>();
+		Set<String> emails=new HashSet<>();
+		Set<String> phoneNumbers=new HashSet<>();
+		for(Row row:chunk) {
+			String error=validate(row.user());
+			if(error==null && !usernames.add(row.user().getUsername())) {
+				error="Duplicate username in import";
+			} else if(error==null && !emails.add(row.user().getEmail())) {
+				error="Duplicate email in import";
+			} else if(error==null && !phoneNumbers.add(row.user().getPhoneNumber())) {
+				error="Duplicate phone number in import";
+			}
+			if(error!=null) {
+				report.add(BulkImportRowResult.failed(row.number(), row.user().getUsername(), error));
+			} else {
+				candidates.add(row);
+			}
+		}
+		if(candidates.isEmpty()) {
+			return;
+		}
+
+		Set<String> takenUsernames=new HashSet<>(userRepository.findExistingUsernames(usernames));
+		Set<String> takenEmails=new HashSet<>(userRepository.findExistingEmails(emails));
+		Set<String> takenPhoneNumbers=new HashSet<>(userRepository.findExistingPhoneNumbers(phoneNumbers));
+		List<Row> inserts=new ArrayList<>(candidates.size());
+		for(Row row:candidates) {
+			UserDto user=row.user();
+			if(takenUsernames.contains(user.getUsername())) {
+				report.add(BulkImportRowResult.failed(row.number(), user.getUsername(), "Username already exists"));
+			} else if(takenEmails.contains(user.getEmail())) {
+				report.add(BulkImportRowResult.failed(row.number(), user.getUsername(), "Email already exists"));
+			} else if(takenPhoneNumbers.contains(user.getPhoneNumber())) {
+				report.add(BulkImportRowResult.failed(row.number(), user.getUsername(), "Phone number already exists"));
+			} else {
+				inserts.add(row);
+			}
+		}
+		if(inserts.isEmpty()) {
+			return;
+		}
+
+		List<String> encodedPasswords=passwordEncoder.encodeAll(inserts.stream().map(row->row.user().getPassword()).toList());
+		List<Object[]> args=new ArrayList<>(inserts.size());
+		for(int i=0;i<inserts.size();i++) {
+			args.add(insertArgs(inserts.get(i).user(), encodedPasswords.get(i)));
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status->jdbcTemplate.batchUpdate(INSERT_SQL, args));
+			inserts.forEach(row->created(row, report));
+		} catch (DataIntegrityViolationException e) {
+			// A concurrent signup took one of the values after the check; insert row by row to isolate it
+			for(int i=0;i<inserts.size();i++) {
+				Row row=inserts.get(i);
+				try {
+					jdbcTemplate.update(INSERT_SQL, args.get(i));
+					created(row, report);
+				} catch (DataIntegrityViolationException rowException) {
+					report.add(BulkImportRowResult.failed(row.number(), row.user().getUsername(), "User already exists"));
+				}
+			}
+		}
+	}
+
+	private void created(Row row, BulkImportReport report) {
+		UserDto user=row.user();
+		availabilityService.register(user.getUsername(), user.getEmail(), user.getPhoneNumber());
+		report.add(BulkImportRowResult.created(row.number(), user.getUsername()));
+	}
+
+	private static Object[] insertArgs(UserDto user, String encodedPassword) {
+		return new Object[] { user.getName(), user.getEmail(), user.getUsername(), user.getPhoneNumber(),
+				encodedPassword, Role.USER.name() };
+	}
+
+	/**
+	 * @return The reason the row cannot be imported, or null if it is valid.
+	 */
+	private String validate(UserDto user) {
+		if(isBlank(user.getName())) {
+			return "Missing name";
+		}
+		if(isBlank(user.getUsername())) {
+			return "Missing username";
+		}
+		if(isBlank(user.getEmail())) {
+			return "Missing email";
+		}
+		if(isBlank(user.getPhoneNumber())) {
+			return "Missing phone number";
+		}
+		if(isBlank(user.getPassword())) {
+			return "Missing password";
+		}
+		// The rows bypass Hibernate, so apply the entity's constraints (e.g. @Email) here
+		User entity=new User();
+		entity.setName(user.getName());
+		entity.setUsername(user.getUsername());
+		entity.setEmail(user.getEmail());
+		entity.setPhoneNumber(user.getPhoneNumber());
+		entity.setPassword(user.getPassword());
+		entity.setRole(Role.USER);
+		return validator.validate(entity).stream()
+				.min(Comparator.comparing(violation->violation.getPropertyPath().toString()))
+				.map(ConstraintViolation::getMessage)
+				.orElse(null);
+	}
+
+	private static boolean isBlank(String value) {
+		return value==null || value.isBlank();
+	}
+
+	private UserDto parseJsonRow(String line) {
+		try {
+			return objectMapper.readValue(line, UserDto.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Malformed JSON record");
+		}
+	}
+
+	private static Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+		String line=reader.readLine();
+		while(line!=null && line.isBlank()) {
+			line=reader.readLine();
+		}
+		if(line==null) {
+			return Map.of();
+		}
+		List<String> columns=splitCsvLine(line);
+		Map<String, Integer> header=new HashMap<>();
+		for(int i=0;i<columns.size();i++) {
+			header.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+		}
+		for(String column:CSV_COLUMNS) {
+			if(!header.containsKey(column)) {
+				throw new InvalidBulkImportException("CSV header is missing the column " + column);
+			}
+		}
+		return header;
+	}
+
+	private static UserDto parseCsvRow(String line, Map<String, Integer> header) {
+		List<String> fields=splitCsvLine(line);
+		UserDto user=new UserDto();
+		user.setName(field(fields, header, "name"));
+		user.setUsername(field(fields, header, "username"));
+		user.setEmail(field(fields, header, "email"));
+		user.setPhoneNumber(field(fields, header, "phonenumber"));
+		user.setPassword(field(fields, header, "password"));
+		return user;
+	}
+
+	private static String field(List<String> fields, Map<String, Integer> header, String column) {
+		int index=header.get(column);
+		return index<fields.size() ? fields.get(index).trim() : null;
+	}
+
+	/**
+	 * Splits one CSV line, honouring double-quoted fields and "" escapes.
+	 */
+	static List<String> splitCsvLine(String line) {
+		List<String> fields=new ArrayList<>();
+		StringBuilder current=new StringBuilder();
+		boolean quoted=false;
+		for(int i=0;i<line.length();i++) {
+			char c=line.charAt(i);
+			if(quoted) {
+				if(c=='"' && i+1<line.length() && line.charAt(i+1)=='"') {
+					current.append('"');
+					i++;
+				} else if(c=='"') {
+					quoted=false;
+				} else {
+					current.append(c);
+				}
+			} else if(c=='"') {
+				quoted=true;
+			} else if(c==',') {
+				fields.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		fields.add(current.toString());
+		return fields;
+	}
+
+	private record Row(long number, UserDto user) {
+	}
+}
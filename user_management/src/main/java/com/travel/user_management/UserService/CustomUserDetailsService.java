@@ -1,23 +1,58 @@
 package com.travel.user_management.UserService;
 
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.travel.user_management.UserModel.User;
 import com.travel.user_management.UserRepository.UserRepository;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final UserRepository userRepository;
-	public CustomUserDetailsService(UserRepository userRepository) {
+	private final UserCache userCache;
+	private final ReplicaLagPolicy replicaLagPolicy;
+	public CustomUserDetailsService(UserRepository userRepository, UserCache userCache, ReplicaLagPolicy replicaLagPolicy) {
 		this.userRepository=userRepository;
+		this.userCache=userCache;
+		this.replicaLagPolicy=replicaLagPolicy;
 	}
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		// TODO Auto-generated method stub
-		return userRepository.findByUsername(username).orElseThrow(()->new UsernameNotFoundException("username not found!!"));
+		UserDetails cached=userCache.getUserFromCache(username);
+		if(cached!=null) {
+			return cached;
+		}
+		// Read from the primary right after a signup or update so replication lag cannot hide the user
+		UserDetails user=replicaLagPolicy.read(username, ()->userRepository.findByUsername(username)).orElseThrow(()->new UsernameNotFoundException("username not found!!"));
+		userCache.putUserInCache(user);
+		return user;
+	}
+	
+	/**
+	 * Stores a re-encoded password after a successful signin whose stored hash
+	 * used an outdated algorithm or cost.
+	 * 
+	 * @param user The authenticated user.
+	 * @param newPassword The password encoded with the current settings.
+	 * @return The user with the upgraded password.
+	 */
+	@Override
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		User entity=user instanceof User loaded ? loaded
+				: userRepository.findByUsername(user.getUsername()).orElseThrow(()->new UsernameNotFoundException("username not found!!"));
+		// The principal may have sat in the user cache for minutes, so only the password is written
+		if(userRepository.updatePassword(entity.getId(), newPassword)==0) {
+			throw new UsernameNotFoundException("username not found!!");
+		}
+		entity.setPassword(newPassword);
+		replicaLagPolicy.recordWrite(entity.getUsername(), entity.getId());
+		userCache.removeUserFromCache(entity.getUsername());
+		return entity;
 	}
 
 }
@@ -0,0 +1,221 @@
+package com.travel.user_management.UserService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.travel.user_management.UserCache.TokenBucketLimiter;
+import com.travel.user_management.UserException.TooManyLoginAttemptsException;
+
+/**
+ * Throttles signin attempts before any password is hashed.
+ *
+ * Key Features:
+ * - A token bucket per username caps guessing against one account, however
+ *   many addresses the attempts come from. Every attempt takes a token before
+ *   hashing, so parallel guesses cannot get past it, and a successful signin
+ *   gives its token back. A username and address pair that signed in
+ *   successfully recently skips it, so an attacker draining it cannot keep
+ *   the user out from the addresses they normally use.
+ * - A token bucket per client address caps credential stuffing across many
+ *   usernames from one address.
+ * - Consecutive failures for the same username and address lock that pair
+ *   out for a while. Keying the lockout on the pair keeps an attacker from
+ *   locking a user out everywhere.
+ * - Everything is in-process; idle entries are purged periodically.
+ */
+public class LoginAttemptLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter usernameLimiter;
+    private final TokenBucketLimiter addressLimiter;
+    private final int maxFailures;
+    private final long lockoutMillis;
+    private final long rememberSuccessMillis;
+    private final Clock clock;
+
+    /**
+     * Username and address pair mapped to its recent failures.
+     */
+    private final ConcurrentHashMap<String, Failures> failures = new ConcurrentHashMap<>();
+
+    /**
+     * Username and address pair mapped to the time until which its last
+     * successful signin lets it skip the username bucket.
+     */
+    private final ConcurrentHashMap<String, Long> successes = new ConcurrentHashMap<>();
+
+    private final LongAdder lockoutRejections = new LongAdder();
+
+    /**
+     * @param usernameLimiter Buckets keyed by username.
+     * @param addressLimiter  Buckets keyed by client address.
+     * @param maxFailures     Consecutive failures after which a pair is locked out.
+     * @param lockout         How long a lockout lasts.
+     * @param rememberSuccess How long a pair skips the username bucket after signing in.
+     * @param clock           Clock used for lockouts.
+     */
+    public LoginAttemptLimiter(TokenBucketLimiter usernameLimiter, TokenBucketLimiter addressLimiter,
+            int maxFailures, Duration lockout, Duration rememberSuccess, Clock clock) {
+        this(true, usernameLimiter, addressLimiter, maxFailures, lockout, rememberSuccess, clock);
+    }
+
+    private LoginAttemptLimiter(boolean enabled, TokenBucketLimiter usernameLimiter,
+            TokenBucketLimiter addressLimiter, int maxFailures, Duration lockout, Duration rememberSuccess,
+            Clock clock) {
+        this.enabled = enabled;
+        this.usernameLimiter = usernameLimiter;
+        this.addressLimiter = addressLimiter;
+        this.maxFailures = maxFailures;
+        this.lockoutMillis = lockout.toMillis();
+        this.rememberSuccessMillis = rememberSuccess.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * @return a limiter that permits every attempt.
+     */
+    public static LoginAttemptLimiter disabled() {
+        TokenBucketLimiter unused = new TokenBucketLimiter(1, 1, Clock.systemUTC());
+        return new LoginAttemptLimiter(false, unused, unused, Integer.MAX_VALUE, Duration.ZERO, Duration.ZERO,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Checks an attempt against the lockout and both rate limits.
+     *
+     * @param username      The username being signed in.
+     * @param clientAddress The client address, or null if unknown.
+     * @throws TooManyLoginAttemptsException if the attempt must be rejected.
+     */
+    public void checkAttempt(String username, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        String user = normalize(username);
+        String pair = lockoutKey(user, clientAddress);
+        long now = clock.millis();
+        Failures current = failures.get(pair);
+        if (current != null && current.lockedUntil() > now) {
+            lockoutRejections.increment();
+            throw new TooManyLoginAttemptsException("Too many failed login attempts, try again later");
+        }
+        if (clientAddress != null && !addressLimiter.tryAcquire(clientAddress)) {
+            throw new TooManyLoginAttemptsException("Too many login attempts, try again later");
+        }
+        if (!isTrusted(pair, clientAddress, now) && !usernameLimiter.tryAcquire(user)) {
+            throw new TooManyLoginAttemptsException("Too many login attempts, try again later");
+        }
+    }
+
+    /**
+     * Records a failed attempt, locking the pair out once the limit is reached.
+     * The username bucket was already charged by {@link #checkAttempt}.
+     *
+     * @param username      The username being signed in.
+     * @param clientAddress The client address, or null if unknown.
+     */
+    public void recordFailure(String username, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        failures.compute(lockoutKey(normalize(username), clientAddress), (key, current) -> {
+            int count = current == null || current.lockedUntil() > 0 && current.lockedUntil() <= now
+                    ? 1
+                    : current.count() + 1;
+            return new Failures(count, count >= maxFailures ? now + lockoutMillis : 0, now);
+        });
+    }
+
+    /**
+     * Clears the failures of a pair after a successful signin, gives back the
+     * username token the attempt took and lets the pair skip the username
+     * bucket for a while.
+     *
+     * @param username      The username signed in.
+     * @param clientAddress The client address, or null if unknown.
+     */
+    public void recordSuccess(String username, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        String user = normalize(username);
+        String pair = lockoutKey(user, clientAddress);
+        long now = clock.millis();
+        failures.remove(pair);
+        if (!isTrusted(pair, clientAddress, now)) {
+            usernameLimiter.refund(user);
+        }
+        if (clientAddress != null) {
+            successes.put(pair, now + rememberSuccessMillis);
+        }
+    }
+
+    /**
+     * Drops refilled buckets, expired lockouts, failures older than the
+     * lockout duration and remembered successes that have run out.
+     */
+    @Scheduled(fixedDelayString = "${login.rate-limit.purge-interval-ms:30000}")
+    public void purgeIdle() {
+        usernameLimiter.purgeIdle();
+        addressLimiter.purgeIdle();
+        long now = clock.millis();
+        failures.values().removeIf(entry -> entry.lockedUntil() <= now && entry.lastFailure() + lockoutMillis <= now);
+        successes.values().removeIf(until -> until <= now);
+    }
+
+    public TokenBucketLimiter getUsernameLimiter() {
+        return usernameLimiter;
+    }
+
+    public TokenBucketLimiter getAddressLimiter() {
+        return addressLimiter;
+    }
+
+    /**
+     * @return the number of username and address pairs currently locked out.
+     */
+    public long getLockedCount() {
+        long now = clock.millis();
+        return failures.values().stream().filter(entry -> entry.lockedUntil() > now).count();
+    }
+
+    /**
+     * @return the number of username and address pairs with recent failures.
+     */
+    public int getTrackedFailureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @return the number of username and address pairs skipping the username bucket.
+     */
+    public int getRememberedSuccessCount() {
+        return successes.size();
+    }
+
+    public long getLockoutRejectionCount() {
+        return lockoutRejections.sum();
+    }
+
+    private boolean isTrusted(String pair, String clientAddress, long now) {
+        Long successUntil = successes.get(pair);
+        return clientAddress != null && successUntil != null && successUntil > now;
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.toLowerCase(Locale.ROOT);
+    }
+
+    private static String lockoutKey(String username, String clientAddress) {
+        return username + '|' + (clientAddress == null ? "" : clientAddress);
+    }
+
+    private record Failures(int count, long lockedUntil, long lastFailure) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.travel.user_management.UserService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.travel.user_management.UserException.InvalidRefreshTokenException;
+import com.travel.user_management.UserModel.RefreshToken;
+import com.travel.user_management.UserRepository.RefreshTokenRepository;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ * 
+ * Key Features:
+ * - 256-bit random tokens; only their SHA-256 digest is stored.
+ * - Every exchange marks the token used and issues a new one in the same family.
+ * - Presenting an already used token revokes the whole family, cutting off
+ *   both the legitimate client and whoever replayed the token.
+ * - Tokens belong to a user id; all of a user's families can be revoked at once.
+ * - Expired tokens are purged periodically.
+ */
+@Service
+public class RefreshTokenService {
+
+	private static final int TOKEN_BYTES=32;
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final long refreshTokenValidity;
+	private final SecureRandom secureRandom=new SecureRandom();
+
+	public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+			@Value("${jwt.refresh-token-validity-seconds:1209600}") long refreshTokenValidity) {
+		this.refreshTokenRepository=refreshTokenRepository;
+		this.refreshTokenValidity=refreshTokenValidity;
+	}
+
+	/**
+	 * Issues the first refresh token of a new family, at signin.
+	 * 
+	 * @param userId The id of the user the token belongs to.
+	 * @return The opaque token to hand to the client.
+	 */
+	public String issue(Long userId) {
+		return issue(userId, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * Exchanges a refresh token for its successor.
+	 * 
+	 * @param rawToken The token presented by the client.
+	 * @return The owner of the token and the new token to hand to the client.
+	 * @throws InvalidRefreshTokenException if the token is unknown, expired, revoked or reused.
+	 */
+	public RotatedRefreshToken rotate(String rawToken) {
+		if(rawToken==null || rawToken.isBlank()) {
+			throw new InvalidRefreshTokenException("Refresh token is required");
+		}
+		RefreshToken token=refreshTokenRepository.findByTokenHash(hash(rawToken))
+				.orElseThrow(()->new InvalidRefreshTokenException("Invalid refresh token"));
+		if(token.isRevoked() || token.getExpiresAt().isBefore(Instant.now())) {
+			throw new InvalidRefreshTokenException("Invalid refresh token");
+		}
+		if(refreshTokenRepository.markUsed(token.getId())==0) {
+			refreshTokenRepository.revokeFamily(token.getFamilyId());
+			throw new InvalidRefreshTokenException("Refresh token reuse detected");
+		}
+		return new RotatedRefreshToken(token.getUserId(), issue(token.getUserId(), token.getFamilyId()));
+	}
+
+	/**
+	 * Revokes the family of the given token, e.g. at logout. Unknown tokens are ignored.
+	 * 
+	 * @param rawToken The token presented by the client.
+	 */
+	public void revoke(String rawToken) {
+		if(rawToken==null || rawToken.isBlank()) {
+			return;
+		}
+		refreshTokenRepository.findByTokenHash(hash(rawToken))
+				.ifPresent(token->refreshTokenRepository.revokeFamily(token.getFamilyId()));
+	}
+
+	/**
+	 * Revokes every token family of a user, so no refresh token issued before
+	 * the user was deleted, renamed or changed password can be exchanged.
+	 * 
+	 * @param userId The id of the user.
+	 */
+	public void revokeAll(Long userId) {
+		refreshTokenRepository.revokeAllForUser(userId);
+	}
+
+	/**
+	 * Deletes tokens that have expired.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:3600000}")
+	public void purgeExpired() {
+		refreshTokenRepository.deleteExpired(Instant.now());
+	}
+
+	public long getRefreshTokenValidity() {
+		return refreshTokenValidity;
+	}
+
+	private String issue(Long userId, String familyId) {
+		byte[] bytes=new byte[TOKEN_BYTES];
+		secureRandom.nextBytes(bytes);
+		String rawToken=Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		RefreshToken token=new RefreshToken();
+		token.setTokenHash(hash(rawToken));
+		token.setFamilyId(familyId);
+		token.setUserId(userId);
+		token.setExpiresAt(Instant.now().plusSeconds(refreshTokenValidity));
+		refreshTokenRepository.save(token);
+		return rawToken;
+	}
+
+	private static String hash(String rawToken) {
+		try {
+			byte[] digest=MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * Result of a successful rotation.
+	 */
+	public record RotatedRefreshToken(Long userId, String refreshToken) {
+	}
+}
@@ -0,0 +1,140 @@
+package com.travel.user_management.UserService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.travel.user_management.UserConfig.ReadReplicaDataSource;
+
+/**
+ * Decides which reads may be served by a read replica.
+ *
+ * Key Features:
+ * - Users written by this instance are read from the primary for the lag
+ *   tolerance afterwards, so a fresh signup can sign in immediately and an
+ *   update is visible to the next read.
+ * - Users are tracked by both username and id; everything else is read
+ *   from a replica.
+ * - Reads that guard a write always go to the primary.
+ * - Tracking is in-process, so read-your-writes only holds on the instance
+ *   that made the write; expired entries are purged periodically.
+ */
+public class ReplicaLagPolicy {
+
+    private final boolean enabled;
+    private final long lagToleranceMillis;
+    private final Clock clock;
+
+    /**
+     * Username or id mapped to the time until which it is read from the primary.
+     */
+    private final ConcurrentHashMap<String, Long> usernames = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> ids = new ConcurrentHashMap<>();
+
+    private final LongAdder primaryReads = new LongAdder();
+
+    /**
+     * @param lagTolerance How long after a write the user is read from the primary.
+     * @param clock        Clock used to expire writes.
+     */
+    public ReplicaLagPolicy(Duration lagTolerance, Clock clock) {
+        this(true, lagTolerance, clock);
+    }
+
+    private ReplicaLagPolicy(boolean enabled, Duration lagTolerance, Clock clock) {
+        this.enabled = enabled;
+        this.lagToleranceMillis = lagTolerance.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * @return a policy that tracks nothing, for deployments without replicas.
+     */
+    public static ReplicaLagPolicy disabled() {
+        return new ReplicaLagPolicy(false, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Records a write so the user is read from the primary until replicas catch up.
+     *
+     * @param username The username written, or null if unknown.
+     * @param id       The id written, or null if unknown.
+     */
+    public void recordWrite(String username, Long id) {
+        if (!enabled) {
+            return;
+        }
+        long until = clock.millis() + lagToleranceMillis;
+        if (username != null) {
+            usernames.put(username, until);
+        }
+        if (id != null) {
+            ids.put(id, until);
+        }
+    }
+
+    /**
+     * Runs a read of the given user, on the primary if it was written recently.
+     *
+     * @param username The username being read.
+     * @param read     The read to run.
+     * @return the result of the read.
+     */
+    public <T> T read(String username, Supplier<T> read) {
+        return username != null && isRecent(usernames.get(username)) ? primary(read) : read.get();
+    }
+
+    /**
+     * Runs a read of the given user, on the primary if it was written recently.
+     *
+     * @param id   The id being read.
+     * @param read The read to run.
+     * @return the result of the read.
+     */
+    public <T> T read(Long id, Supplier<T> read) {
+        return id != null && isRecent(ids.get(id)) ? primary(read) : read.get();
+    }
+
+    /**
+     * Runs a read on the primary, e.g. the lookup a write depends on.
+     *
+     * @param read The read to run.
+     * @return the result of the read.
+     */
+    public <T> T primary(Supplier<T> read) {
+        primaryReads.increment();
+        return ReadReplicaDataSource.onPrimary(read);
+    }
+
+    /**
+     * Drops writes older than the lag tolerance.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = clock.millis();
+        usernames.values().removeIf(until -> until <= now);
+        ids.values().removeIf(until -> until <= now);
+    }
+
+    private boolean isRecent(Long until) {
+        return until != null && until > clock.millis();
+    }
+
+    /**
+     * @return the number of reads sent to the primary by this policy.
+     */
+    public long getPrimaryReadCount() {
+        return primaryReads.sum();
+    }
+
+    /**
+     * @return the number of usernames and ids currently read from the primary.
+     */
+    public int getTrackedCount() {
+        return usernames.size() + ids.size();
+    }
+}
@@ -0,0 +1,263 @@
+package com.travel.user_management.UserService;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserDto.UserSummary;
+import com.travel.user_management.UserException.UserAlreadyExistsException;
+import com.travel.user_management.UserRepository.UserRepository;
+
+/**
+ * Answers whether a username, email or phone number is still free.
+ * 
+ * Key Features:
+ * - A counting Bloom filter over all taken values answers "free" without a
+ *   database query; only possible matches are confirmed against the database.
+ * - The filter is loaded at startup by scanning the users table in keyset
+ *   batches, and kept current on signup, update and delete.
+ * - Until the load finishes, every check goes to the database.
+ * - Usernames and emails are keyed in lower case, because the unique
+ *   indexes compare them case-insensitively.
+ * - Counts filter negatives, positives and confirmed false positives.
+ * 
+ * Only changes made through this instance reach the filter directly. With
+ * several instances, a value taken on another one reads as free here until
+ * the filter is rebuilt, which happens periodically in the background; the
+ * unique constraints still reject the signup itself.
+ */
+@Service
+public class UserAvailabilityService {
+
+	private static final Logger log = LoggerFactory.getLogger(UserAvailabilityService.class);
+
+	private static final String USERNAME_PREFIX="u:";
+	private static final String EMAIL_PREFIX="e:";
+	private static final String PHONE_NUMBER_PREFIX="p:";
+
+	private static final int LOAD_BATCH_SIZE=1000;
+
+	private final UserRepository userRepository;
+	private final boolean enabled;
+	private volatile boolean ready=false;
+
+	/**
+	 * The filter answering checks, replaced whole when it is rebuilt.
+	 */
+	private volatile CountingBloomFilter filter;
+
+	/**
+	 * The filter being loaded, or null; signups meanwhile are added to it too.
+	 */
+	private volatile CountingBloomFilter loading;
+
+	private final LongAdder negatives=new LongAdder();
+	private final LongAdder positives=new LongAdder();
+	private final LongAdder falsePositives=new LongAdder();
+
+	public UserAvailabilityService(UserRepository userRepository, CountingBloomFilter userAvailabilityFilter,
+			@Value("${user.availability.filter.enabled:true}") boolean enabled) {
+		this.userRepository=userRepository;
+		this.filter=userAvailabilityFilter;
+		this.enabled=enabled;
+	}
+
+	/**
+	 * Loads every existing username, email and phone number into the filter.
+	 * Signups that happen meanwhile are added directly, so none are missed.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadExistingUsers() {
+		if(!enabled) {
+			return;
+		}
+		load(filter);
+	}
+
+	/**
+	 * Rebuilds the filter from the users table, picking up values taken or
+	 * freed through other instances. The current filter keeps answering
+	 * checks until the new one is complete.
+	 */
+	@Scheduled(fixedDelayString = "${user.availability.filter.refresh-interval-ms:300000}",
+			initialDelayString = "${user.availability.filter.refresh-interval-ms:300000}")
+	public void refresh() {
+		if(!enabled || !ready) {
+			return;
+		}
+		load(filter.emptyCopy());
+	}
+
+	private synchronized void load(CountingBloomFilter target) {
+		loading=target;
+		long start=System.currentTimeMillis();
+		long loaded=0;
+		List<UserSummary> batch=userRepository.findSummaries(Limit.of(LOAD_BATCH_SIZE));
+		while(!batch.isEmpty()) {
+			for(UserSummary user:batch) {
+				add(target, user.getUsername(), user.getEmail(), user.getPhoneNumber());
+			}
+			loaded+=batch.size();
+			if(batch.size()<LOAD_BATCH_SIZE) {
+				break;
+			}
+			batch=userRepository.findSummariesAfter(batch.get(batch.size()-1).getId(), Limit.of(LOAD_BATCH_SIZE));
+		}
+		filter=target;
+		loading=null;
+		ready=true;
+		log.info("Loaded {} users into the availability filter in {} ms", loaded, System.currentTimeMillis()-start);
+	}
+
+	public boolean isUsernameAvailable(String username) {
+		return isAvailable(USERNAME_PREFIX, username, userRepository::existsByUsername);
+	}
+
+	public boolean isEmailAvailable(String email) {
+		return isAvailable(EMAIL_PREFIX, email, userRepository::existsByEmail);
+	}
+
+	public boolean isPhoneNumberAvailable(String phoneNumber) {
+		return isAvailable(PHONE_NUMBER_PREFIX, phoneNumber, userRepository::existsByPhoneNumber);
+	}
+
+	/**
+	 * Rejects a signup whose username, email or phone number is taken before
+	 * any password hashing is done. Values the filter has never seen skip the
+	 * database entirely; the unique constraints still guard the final insert.
+	 * 
+	 * @param userDto The user about to be created.
+	 * @throws UserAlreadyExistsException if one of the values is already taken.
+	 */
+	public void checkAvailable(UserDto userDto) {
+		if(userDto.getUsername()!=null && !isUsernameAvailable(userDto.getUsername())) {
+			throw new UserAlreadyExistsException("User already exists with username "+userDto.getUsername());
+		}
+		if(userDto.getEmail()!=null && !isEmailAvailable(userDto.getEmail())) {
+			throw new UserAlreadyExistsException("User already exists with email "+userDto.getEmail());
+		}
+		if(userDto.getPhoneNumber()!=null && !isPhoneNumberAvailable(userDto.getPhoneNumber())) {
+			throw new UserAlreadyExistsException("User already exists with phone number "+userDto.getPhoneNumber());
+		}
+	}
+
+	/**
+	 * Records the values of a user that now exists.
+	 */
+	public void register(String username, String email, String phoneNumber) {
+		if(!enabled) {
+			return;
+		}
+		// Add to the filter being loaded first, so a rebuild finishing meanwhile cannot miss the values
+		CountingBloomFilter next=loading;
+		if(next!=null) {
+			add(next, username, email, phoneNumber);
+		}
+		CountingBloomFilter current=filter;
+		if(current!=next) {
+			add(current, username, email, phoneNumber);
+		}
+	}
+
+	/**
+	 * Forgets the values of a user that was deleted or changed. Ignored while
+	 * the filter is still loading, because the value may not have been added yet
+	 * and removing it could hide another user; the stale entry only costs a
+	 * database check later. A filter being rebuilt keeps such entries for the
+	 * same reason.
+	 */
+	public void unregister(String username, String email, String phoneNumber) {
+		if(!enabled || !ready) {
+			return;
+		}
+		CountingBloomFilter current=filter;
+		remove(current, USERNAME_PREFIX, username);
+		remove(current, EMAIL_PREFIX, email);
+		remove(current, PHONE_NUMBER_PREFIX, phoneNumber);
+	}
+
+	private boolean isAvailable(String prefix, String value, Predicate<String> existsInDatabase) {
+		if(enabled && ready) {
+			if(!filter.mightContain(key(prefix, value))) {
+				negatives.increment();
+				return true;
+			}
+			positives.increment();
+			boolean exists=existsInDatabase.test(value);
+			if(!exists) {
+				falsePositives.increment();
+			}
+			return !exists;
+		}
+		return !existsInDatabase.test(value);
+	}
+
+	private static void add(CountingBloomFilter target, String username, String email, String phoneNumber) {
+		add(target, USERNAME_PREFIX, username);
+		add(target, EMAIL_PREFIX, email);
+		add(target, PHONE_NUMBER_PREFIX, phoneNumber);
+	}
+
+	private static void add(CountingBloomFilter target, String prefix, String value) {
+		if(value!=null) {
+			target.add(key(prefix, value));
+		}
+	}
+
+	private static void remove(CountingBloomFilter target, String prefix, String value) {
+		if(value!=null) {
+			target.remove(key(prefix, value));
+		}
+	}
+
+	/**
+	 * Builds the filter key of a value. Values are lower-cased so that "ALICE"
+	 * is found when "alice" is taken, as the database's collation would.
+	 */
+	private static String key(String prefix, String value) {
+		return prefix+value.toLowerCase(Locale.ROOT);
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * @return The memory used by the current filter, in bytes.
+	 */
+	public long getFilterSizeInBytes() {
+		return filter.getSizeInBytes();
+	}
+
+	public long getNegativeCount() {
+		return negatives.sum();
+	}
+
+	public long getPositiveCount() {
+		return positives.sum();
+	}
+
+	public long getFalsePositiveCount() {
+		return falsePositives.sum();
+	}
+
+	/**
+	 * @return The share of filter positives that the database showed to be free.
+	 */
+	public double getFalsePositiveRate() {
+		long positiveCount=positives.sum();
+		return positiveCount==0 ? 0.0 : (double) falsePositives.sum()/positiveCount;
+	}
+}
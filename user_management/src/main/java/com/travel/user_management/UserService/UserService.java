@@ -1,22 +1,34 @@
 package com.travel.user_management.UserService;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.travel.user_management.JwtAuth.JwtAuthenticationHelper;
-import com.travel.user_management.UserConfig.PasswordEncoder;
+import com.travel.user_management.JwtAuth.JwtValidationResult;
+import com.travel.user_management.JwtAuth.TokenRevocationList;
 import com.travel.user_management.UserDto.LoginRequest;
 import com.travel.user_management.UserDto.LoginResponse;
 import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserDto.UserPage;
+import com.travel.user_management.UserDto.UserSummary;
+import com.travel.user_management.UserException.InvalidRefreshTokenException;
+import com.travel.user_management.UserException.TooManyLoginAttemptsException;
 import com.travel.user_management.UserException.UserAlreadyExistsException;
 import com.travel.user_management.UserException.UserNotFoundException;
 import com.travel.user_management.UserModel.Role;
@@ -26,74 +38,167 @@ import com.travel.user_management.UserRepository.UserRepository;
 @Service
 public class UserService {
 
+	/**
+	 * Hard upper bound on the number of users returned by a single listing call.
+	 */
+	public static final int MAX_USERS_LIMIT=1000;
+
+	/**
+	 * Number of users fetched per query while exporting.
+	 */
+	private static final int EXPORT_BATCH_SIZE=500;
+
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final AuthenticationManager authenticationManager;
-	private final UserDetailsService userDetailsService;
 	private final JwtAuthenticationHelper jwtHelper;
+	private final UserCache userCache;
+	private final TransactionTemplate transactionTemplate;
+	private final UserAvailabilityService availabilityService;
+	private final TokenRevocationList revocationList;
+	private final RefreshTokenService refreshTokenService;
+	private final LoginAttemptLimiter loginAttemptLimiter;
+	private final ReplicaLagPolicy replicaLagPolicy;
 	
 	public UserService(UserRepository userRepository,PasswordEncoder passwordEncoder,
-			AuthenticationManager authenticationManager, 
-			UserDetailsService userDetialsService, JwtAuthenticationHelper jwtHelper) {
+			AuthenticationManager authenticationManager, JwtAuthenticationHelper jwtHelper,
+			UserCache userCache, TransactionTemplate transactionTemplate,
+			UserAvailabilityService availabilityService, TokenRevocationList revocationList,
+			RefreshTokenService refreshTokenService, LoginAttemptLimiter loginAttemptLimiter, ReplicaLagPolicy replicaLagPolicy) {
 		
 		this.userRepository=userRepository;
 		this.passwordEncoder=passwordEncoder;
 		this.authenticationManager=authenticationManager;
-		this.userDetailsService=userDetialsService;
 		this.jwtHelper=jwtHelper;
+		this.userCache=userCache;
+		this.transactionTemplate=transactionTemplate;
+		this.availabilityService=availabilityService;
+		this.revocationList=revocationList;
+		this.refreshTokenService=refreshTokenService;
+		this.loginAttemptLimiter=loginAttemptLimiter;
+		this.replicaLagPolicy=replicaLagPolicy;
 	}
 	
 	/**
-     * Registers a new user.
+     * Registers a new user with a single insert. Values the availability filter
+     * has already seen are checked up front; otherwise duplicates are detected by
+     * the unique constraints on username, email and phone number, so concurrent
+     * signups cannot both succeed.
      * 
      * @param userDto Data transfer object containing user registration data.
-     * @throws UserAlreadyExistsException if a user already exists with the given username.
+     * @throws UserAlreadyExistsException if the username, email or phone number is already taken.
      */
 	
 	public void signup(UserDto userDto) {
-		Optional<User> optUser=userRepository.findByUsername(userDto.getUsername());
-		if(optUser.isPresent()) {
-			throw new UserAlreadyExistsException("User Already Exists with User Id " + userDto.getId());
-		}
+		// Reject known duplicates before paying for BCrypt
+		availabilityService.checkAvailable(userDto);
 		User new_user=DtoToEntity(userDto);
-		userRepository.save(new_user);
-		
-		
+		try {
+			userRepository.saveAndFlush(new_user);
+		} catch (DataIntegrityViolationException e) {
+			throw toUserAlreadyExists(e, new_user);
+		}
+		replicaLagPolicy.recordWrite(new_user.getUsername(), new_user.getId());
+		availabilityService.register(new_user.getUsername(), new_user.getEmail(), new_user.getPhoneNumber());
 	}
 	
 	/**
-     * Authenticates a user and generates a JWT token upon successful authentication.
+     * Authenticates a user and issues a short-lived access token together with
+     * a refresh token upon successful authentication.
      * 
      * @param loginRequest Contains the username and password for login.
-     * @return A response containing the JWT token.
+     * @return A response containing the access and refresh tokens.
      * @throws BadCredentialsException if authentication fails.
+     * @throws TooManyLoginAttemptsException if the username is rate limited or locked out.
      */
 	
 	public LoginResponse signin(LoginRequest loginRequest) {
+		return signin(loginRequest, null);
+	}
+	
+	/**
+     * Authenticates a user as {@link #signin(LoginRequest)} does, also rate
+     * limiting by the client address. Throttled attempts are rejected before
+     * the password is hashed.
+     * 
+     * @param loginRequest Contains the username and password for login.
+     * @param clientAddress The address the request came from, or null if unknown.
+     * @return A response containing the access and refresh tokens.
+     * @throws BadCredentialsException if authentication fails.
+     * @throws TooManyLoginAttemptsException if the username or address is rate limited or locked out.
+     */
+	
+	public LoginResponse signin(LoginRequest loginRequest, String clientAddress) {
 		
-		Authenticate(loginRequest.getUsername(), loginRequest.getPassword());
+		loginAttemptLimiter.checkAttempt(loginRequest.getUsername(), clientAddress);
+		Authentication authentication;
+		try {
+			authentication=Authenticate(loginRequest.getUsername(), loginRequest.getPassword());
+		} catch (BadCredentialsException e) {
+			loginAttemptLimiter.recordFailure(loginRequest.getUsername(), clientAddress);
+			throw e;
+		}
+		loginAttemptLimiter.recordSuccess(loginRequest.getUsername(), clientAddress);
 		
-		UserDetails userDetails=userDetailsService.loadUserByUsername(loginRequest.getUsername());
+		// The authentication manager already loaded the user, so reuse its principal
+		UserDetails userDetails=(UserDetails) authentication.getPrincipal();
 		String token=jwtHelper.generateToken(userDetails);
-		LoginResponse loginResponse=new LoginResponse(token);
+		String refreshToken=refreshTokenService.issue(userId(userDetails));
+		LoginResponse loginResponse=new LoginResponse(token, refreshToken, jwtHelper.getAccessTokenValidity());
 		return loginResponse;
 	}
 	
+	/**
+     * Exchanges a refresh token for a new access token and a new refresh token,
+     * without checking the password again.
+     * 
+     * @param refreshToken The refresh token issued at signin or by the previous refresh.
+     * @return A response containing the new access and refresh tokens.
+     * @throws InvalidRefreshTokenException if the refresh token is invalid, expired, revoked or reused.
+     */
+	
+	public LoginResponse refresh(String refreshToken) {
+		RefreshTokenService.RotatedRefreshToken rotated=refreshTokenService.rotate(refreshToken);
+		User user=replicaLagPolicy.read(rotated.userId(), ()->userRepository.findById(rotated.userId()))
+				.orElseThrow(()->new InvalidRefreshTokenException("Invalid refresh token"));
+		String token=jwtHelper.generateToken(user);
+		return new LoginResponse(token, rotated.refreshToken(), jwtHelper.getAccessTokenValidity());
+	}
+	
+	/**
+     * Logs a user out by revoking their access token until it expires and, when
+     * given, the refresh token family it was issued with.
+     * 
+     * @param token The JWT token to revoke.
+     * @param refreshToken The refresh token to revoke, or null.
+     * @throws BadCredentialsException if the token is not valid or cannot be revoked.
+     */
+	
+	public void logout(String token, String refreshToken) {
+		JwtValidationResult result=jwtHelper.validateToken(token);
+		if(!result.isValid() || result.getTokenId()==null) {
+			throw new BadCredentialsException("Token cannot be revoked");
+		}
+		revocationList.revoke(result.getTokenId(), result.getExpiration());
+		refreshTokenService.revoke(refreshToken);
+	}
+	
 	/**
      * Authenticates a user's credentials.
      * 
      * @param username The username of the user.
      * @param password The password of the user.
+     * @return The authenticated token, whose principal is the loaded user.
      * @throws BadCredentialsException if the credentials are invalid.
      */
 	
-	public void Authenticate(String username, String password) {
+	public Authentication Authenticate(String username, String password) {
 	    
 
 	    UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(username, password);
 	    
 	    try {
-	        authenticationManager.authenticate(usernamePasswordAuthenticationToken);
+	        return authenticationManager.authenticate(usernamePasswordAuthenticationToken);
 	        
 	    } catch (BadCredentialsException e) {
 	        
@@ -105,12 +210,13 @@ public class UserService {
      * Fetches a user by their ID.
      * 
      * @param Id The ID of the user to retrieve.
-     * @return The User entity if found.
+     * @return The public details of the user if found.
      * @throws UserNotFoundException if the user is not found.
      */
 	
-	public User getUserById(Long Id) {
-		Optional<User> optUser=userRepository.findById(Id);
+	public UserSummary getUserById(Long Id) {
+		// Served from the second-level cache when the user was loaded recently
+		Optional<UserSummary> optUser=replicaLagPolicy.read(Id, ()->userRepository.findById(Id)).map(UserSummary::from);
 		if(optUser.isEmpty()) {
 			throw new UserNotFoundException("User not found with user id "+Id);
 		}
@@ -118,17 +224,48 @@ public class UserService {
 	}
 	
 	/**
-     * Retrieves all users in the system.
+     * Retrieves users in the system, up to a hard limit.
      * 
-     * @return A list of all users.
+     * @param limit The maximum number of users to return, capped at MAX_USERS_LIMIT.
+     * @return A list of users ordered by id.
      */
 	
-	public List<User> getAllUser(){
-		List<User> users=userRepository.findAll();
-		if(users.isEmpty()) {
-			return new ArrayList<User>();
-		}
-		return users;
+	public List<UserSummary> getAllUser(int limit){
+		int cappedLimit=Math.max(1, Math.min(limit, MAX_USERS_LIMIT));
+		return userRepository.findSummaries(Limit.of(cappedLimit));
+	}
+	
+	/**
+     * Retrieves one page of users using keyset (seek) pagination.
+     * 
+     * @param cursor The id of the last user of the previous page, or null for the first page.
+     * @param size The page size, capped at MAX_USERS_LIMIT.
+     * @return The page of users and the cursor of the next page.
+     */
+	
+	public UserPage<UserSummary> getUserPage(Long cursor, int size){
+		int pageSize=Math.max(1, Math.min(size, MAX_USERS_LIMIT));
+		List<UserSummary> users=cursor==null
+				? userRepository.findSummaries(Limit.of(pageSize))
+				: userRepository.findSummariesAfter(cursor, Limit.of(pageSize));
+		Long nextCursor=users.size()<pageSize ? null : users.get(users.size()-1).getId();
+		return new UserPage<>(users, nextCursor);
+	}
+	
+	/**
+     * Streams every user to the given consumer, fetching them in keyset batches
+     * so memory use stays constant regardless of the table size.
+     * 
+     * @param consumer Receives each user in id order.
+     */
+	
+	public void exportUsers(Consumer<UserSummary> consumer){
+		Long cursor=null;
+		do {
+			UserPage<UserSummary> page=getUserPage(cursor, EXPORT_BATCH_SIZE);
+			page.getUsers().forEach(consumer);
+			cursor=page.getNextCursor();
+		} while(cursor!=null);
 	}
 	
 	/**
@@ -136,18 +273,87 @@ public class UserService {
      * 
      * @param Id The ID of the user to update.
      * @param userDto The updated user data.
-     * @return The updated User entity.
+     * @return The public details of the updated user.
      * @throws UserNotFoundException if the user is not found.
      */
 	
-	public User updateUserById(Long Id,UserDto userDto) {
-		Optional<User> optUser=userRepository.findById(Id);
+	public UserSummary updateUserById(Long Id,UserDto userDto) {
+		Optional<User> optUser=replicaLagPolicy.primary(()->userRepository.findCurrentById(Id));
 		if(optUser.isEmpty()) {
 			throw new UserNotFoundException("user not found");
 		}
 		User updated_user=DtoToEntity(userDto);
-		userRepository.save(updated_user);
-		return updated_user;
+		// Replace the existing row rather than inserting a new user
+		updated_user.setId(Id);
+		updated_user.setRole(optUser.get().getRole());
+		try {
+			userRepository.saveAndFlush(updated_user);
+		} catch (DataIntegrityViolationException e) {
+			throw toUserAlreadyExists(e, updated_user);
+		}
+		User previous=optUser.get();
+		// A full update always replaces the password, so earlier refresh tokens stop working
+		refreshTokenService.revokeAll(Id);
+		replicaLagPolicy.recordWrite(previous.getUsername(), Id);
+		replicaLagPolicy.recordWrite(updated_user.getUsername(), Id);
+		userCache.removeUserFromCache(previous.getUsername());
+		userCache.removeUserFromCache(updated_user.getUsername());
+		availabilityService.unregister(previous.getUsername(), previous.getEmail(), previous.getPhoneNumber());
+		availabilityService.register(updated_user.getUsername(), updated_user.getEmail(), updated_user.getPhoneNumber());
+		return UserSummary.from(updated_user);
+	}
+	
+	/**
+     * Partially updates a user: only the non-null fields of the DTO are changed.
+     * The password is hashed only when a new one is supplied, and the hash is
+     * computed before the transaction so no connection is held during BCrypt.
+     * Only the changed columns are written (see @DynamicUpdate on User).
+     * 
+     * @param Id The ID of the user to update.
+     * @param userDto The fields to change; null fields are left untouched.
+     * @return The public details of the updated user.
+     * @throws UserNotFoundException if the user is not found.
+     * @throws UserAlreadyExistsException if the new username, email or phone number is taken.
+     */
+	
+	public UserSummary patchUserById(Long Id,UserDto userDto) {
+		String encodedPassword=userDto.getPassword()!=null ? passwordEncoder.encode(userDto.getPassword()) : null;
+		Patch patch=transactionTemplate.execute(status->{
+			User user=userRepository.findCurrentById(Id).orElseThrow(()->new UserNotFoundException("user not found"));
+			UserSummary previous=UserSummary.from(user);
+			if(userDto.getName()!=null) {
+				user.setName(userDto.getName());
+			}
+			if(userDto.getUsername()!=null) {
+				user.setUsername(userDto.getUsername());
+			}
+			if(userDto.getEmail()!=null) {
+				user.setEmail(userDto.getEmail());
+			}
+			if(userDto.getPhoneNumber()!=null) {
+				user.setPhoneNumber(userDto.getPhoneNumber());
+			}
+			if(encodedPassword!=null) {
+				user.setPassword(encodedPassword);
+			}
+			try {
+				return new Patch(previous, userRepository.saveAndFlush(user));
+			} catch (DataIntegrityViolationException e) {
+				throw toUserAlreadyExists(e, user);
+			}
+		});
+		UserSummary previous=patch.previous();
+		User patched_user=patch.patched();
+		if(encodedPassword!=null || !previous.getUsername().equals(patched_user.getUsername())) {
+			refreshTokenService.revokeAll(Id);
+		}
+		replicaLagPolicy.recordWrite(previous.getUsername(), Id);
+		replicaLagPolicy.recordWrite(patched_user.getUsername(), Id);
+		userCache.removeUserFromCache(previous.getUsername());
+		userCache.removeUserFromCache(patched_user.getUsername());
+		availabilityService.unregister(previous.getUsername(), previous.getEmail(), previous.getPhoneNumber());
+		availabilityService.register(patched_user.getUsername(), patched_user.getEmail(), patched_user.getPhoneNumber());
+		return UserSummary.from(patched_user);
 	}
 	
 	/**
@@ -158,12 +364,16 @@ public class UserService {
      */
 	
 	public void deleteUserById(Long Id) {
-		Optional<User> optUser=userRepository.findById(Id);
+		Optional<User> optUser=replicaLagPolicy.primary(()->userRepository.findCurrentById(Id));
 		if(optUser.isEmpty()) {
 			throw new UserNotFoundException("user not found");
 		}
 		User user=optUser.get();
 		userRepository.delete(user);
+		refreshTokenService.revokeAll(Id);
+		replicaLagPolicy.recordWrite(user.getUsername(), Id);
+		userCache.removeUserFromCache(user.getUsername());
+		availabilityService.unregister(user.getUsername(), user.getEmail(), user.getPhoneNumber());
 	}
 	
 	/**
@@ -175,7 +385,7 @@ public class UserService {
 	
 	public User DtoToEntity(UserDto userDto) {
 		User user=new User();
-		String encodedPassword=passwordEncoder.bCryptPasswordEncoder().encode(userDto.getPassword());
+		String encodedPassword=passwordEncoder.encode(userDto.getPassword());
 		user.setName(userDto.getName());
 		user.setEmail(userDto.getEmail());
 		user.setUsername(userDto.getUsername());
@@ -184,4 +394,71 @@ public class UserService {
 		user.setRole(Role.USER);
 		return user;
 	}
+	
+	/**
+     * Maps a unique constraint violation to a UserAlreadyExistsException naming
+     * the field that collided. The constraint name is used when the database
+     * reports it; otherwise the duplicated value in the error message is matched
+     * against the user's fields.
+     * 
+     * @param e The exception raised by the insert or update.
+     * @param user The user that was being written.
+     * @return The exception to throw.
+     * @throws DataIntegrityViolationException if the violation is not a duplicate.
+     */
+	
+	private UserAlreadyExistsException toUserAlreadyExists(DataIntegrityViolationException e, User user) {
+		ConstraintViolationException violation=findConstraintViolation(e);
+		String constraint=violation!=null && violation.getConstraintName()!=null
+				? violation.getConstraintName().toLowerCase(Locale.ROOT) : "";
+		String message=String.valueOf(e.getMostSpecificCause().getMessage());
+		
+		String[][] fields= {
+				{ User.UK_USERNAME, "username", user.getUsername() },
+				{ User.UK_EMAIL, "email", user.getEmail() },
+				{ User.UK_PHONE_NUMBER, "phone number", user.getPhoneNumber() } };
+		for(String[] field:fields) {
+			if(constraint.contains(field[0])) {
+				return new UserAlreadyExistsException("User already exists with "+field[1]+" "+field[2]);
+			}
+		}
+		// Constraints created before they were named: match the duplicated value instead
+		for(String[] field:fields) {
+			if(field[2]!=null && message.contains("'"+field[2]+"'")) {
+				return new UserAlreadyExistsException("User already exists with "+field[1]+" "+field[2]);
+			}
+		}
+		if(violation!=null && violation.getKind()==ConstraintViolationException.ConstraintKind.UNIQUE) {
+			return new UserAlreadyExistsException("User already exists");
+		}
+		throw e;
+	}
+	
+	/**
+	 * Returns the id of an authenticated user. The principal is normally the
+	 * loaded entity; otherwise the id is looked up by username.
+	 */
+	
+	private Long userId(UserDetails userDetails) {
+		if(userDetails instanceof User user && user.getId()!=null) {
+			return user.getId();
+		}
+		return userRepository.findByUsername(userDetails.getUsername()).map(User::getId)
+				.orElseThrow(()->new BadCredentialsException("Bad Credentials"));
+	}
+	
+	private static ConstraintViolationException findConstraintViolation(Throwable e) {
+		for(Throwable cause=e; cause!=null; cause=cause.getCause()) {
+			if(cause instanceof ConstraintViolationException violation) {
+				return violation;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * A user as it was before a patch, and after it.
+	 */
+	private record Patch(UserSummary previous, User patched) {
+	}
 }
@@ -0,0 +1,284 @@
+package com.travel.user_management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.user_management.UserRepository.UserRepository;
+
+/**
+ * Open-model load test driving a mix of signup, signin and authenticated
+ * getuserbyid requests at a fixed arrival rate against the application on
+ * an embedded H2 database.
+ *
+ * Requests are started on schedule whether or not earlier ones have
+ * finished, and latency is measured from the scheduled start, so a slow
+ * server shows up as latency rather than as a lower request rate.
+ *
+ * Excluded from the normal build; run with
+ * {@code mvn -P load-test test [-Dload.rate=200] [-Dload.duration-seconds=30]
+ * [-Dload.mix=signup:10,signin:20,getuserbyid:70] [-Dspring.threads.virtual.enabled=true]}.
+ * Results are printed and written to target/load-test-report.json.
+ *
+ * A 503 is the password hashing pool shedding load by design and is
+ * reported as "rejected"; any other 5xx or I/O error fails the test.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"password.bcrypt.strength=10",
+		"login.rate-limit.enabled=false",
+		"logging.level.root=WARN" })
+class AuthenticationLoadTest {
+
+	private static final String PASSWORD = "load-test-password";
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+
+	private final AtomicLong signupSequence = new AtomicLong();
+
+	@Test
+	void fixedArrivalRateMix() throws Exception {
+		int rate = Integer.getInteger("load.rate", 20);
+		int durationSeconds = Integer.getInteger("load.duration-seconds", 20);
+		int warmupSeconds = Integer.getInteger("load.warmup-seconds", 5);
+		int seedUsers = Integer.getInteger("load.users", 100);
+		Map<String, Integer> mix = parseMix(System.getProperty("load.mix", "signup:10,signin:20,getuserbyid:70"));
+
+		List<SeededUser> users = seed(seedUsers);
+
+		run(rate, warmupSeconds, mix, users, new ConcurrentHashMap<>());
+		Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+		long start = System.nanoTime();
+		long dropped = run(rate, durationSeconds, mix, users, stats);
+		double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+		Map<String, Object> report = report(rate, durationSeconds, elapsedSeconds, dropped, stats);
+		Path output = Path.of("target", "load-test-report.json");
+		Files.createDirectories(output.getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+
+		long serverErrors = stats.values().stream().mapToLong(s -> s.serverErrors.get()).sum();
+		assertEquals(0, serverErrors, "requests failed with an unexpected 5xx or I/O error, see " + output);
+	}
+
+	/**
+	 * Issues requests at a fixed rate for the given time and waits for them to complete.
+	 *
+	 * @return the number of arrivals that could not be started on time.
+	 */
+	private long run(int rate, int seconds, Map<String, Integer> mix, List<SeededUser> users,
+			Map<String, OperationStats> stats) throws InterruptedException {
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+		long total = (long) rate * seconds;
+		int weightSum = mix.values().stream().mapToInt(Integer::intValue).sum();
+		CountDownLatch done = new CountDownLatch((int) total);
+		long dropped = 0;
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			long start = System.nanoTime();
+			for (long i = 0; i < total; i++) {
+				long scheduled = start + i * intervalNanos;
+				long wait = scheduled - System.nanoTime();
+				if (wait > 0) {
+					LockSupport.parkNanos(wait);
+				} else if (-wait > TimeUnit.SECONDS.toNanos(1)) {
+					dropped++;
+				}
+				String operation = pick(mix, weightSum);
+				executor.execute(() -> {
+					try {
+						int status = execute(operation, users);
+						stats.computeIfAbsent(operation, k -> new OperationStats())
+								.record(System.nanoTime() - scheduled, status);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			done.await(seconds + 60L, TimeUnit.SECONDS);
+		}
+		return dropped;
+	}
+
+	private int execute(String operation, List<SeededUser> users) {
+		SeededUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+		try {
+			HttpRequest request = switch (operation) {
+				case "signup" -> post("/user/signup", signupBody("load-" + System.nanoTime() + "-" + signupSequence.incrementAndGet()));
+				case "signin" -> post("/user/signin", Map.of("username", user.username(), "password", PASSWORD));
+				case "getuserbyid" -> HttpRequest.newBuilder(uri("/user/getuserbyid/" + user.id()))
+						.header("Authorization", "Bearer " + user.token())
+						.GET()
+						.build();
+				default -> throw new IllegalArgumentException("Unknown operation " + operation);
+			};
+			return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch (IOException e) {
+			return -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+
+	private List<SeededUser> seed(int count) throws IOException, InterruptedException {
+		List<SeededUser> users = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String username = "seed-" + i;
+			client.send(post("/user/signup", signupBody(username)), HttpResponse.BodyHandlers.discarding());
+			HttpResponse<String> signin = client.send(
+					post("/user/signin", Map.of("username", username, "password", PASSWORD)),
+					HttpResponse.BodyHandlers.ofString());
+			String token = objectMapper.readTree(signin.body()).get("token").asText();
+			long id = userRepository.findByUsername(username).orElseThrow().getId();
+			users.add(new SeededUser(id, username, token));
+		}
+		return users;
+	}
+
+	private Map<String, Object> signupBody(String username) {
+		return Map.of("name", "Load Test", "username", username, "email", username + "@example.com",
+				"phoneNumber", username, "password", PASSWORD);
+	}
+
+	private HttpRequest post(String path, Object body) throws IOException {
+		return HttpRequest.newBuilder(uri(path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+				.build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static String pick(Map<String, Integer> mix, int weightSum) {
+		int roll = ThreadLocalRandom.current().nextInt(weightSum);
+		for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+			roll -= entry.getValue();
+			if (roll < 0) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException("Empty mix");
+	}
+
+	private static Map<String, Integer> parseMix(String mix) {
+		Map<String, Integer> weights = new LinkedHashMap<>();
+		for (String part : mix.split(",")) {
+			String[] pair = part.trim().split(":");
+			weights.put(pair[0], Integer.parseInt(pair[1]));
+		}
+		return weights;
+	}
+
+	private static Map<String, Object> report(int rate, int durationSeconds, double elapsedSeconds, long dropped,
+			Map<String, OperationStats> stats) {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("targetRate", rate);
+		report.put("durationSeconds", durationSeconds);
+		report.put("virtualThreads", Boolean.getBoolean("spring.threads.virtual.enabled"));
+		report.put("lateArrivals", dropped);
+		Map<String, Object> operations = new LinkedHashMap<>();
+		System.out.printf(Locale.ROOT, "%-12s %8s %10s %10s %10s %10s %8s %8s %8s%n",
+				"operation", "count", "rps", "p50 ms", "p99 ms", "p999 ms", "4xx", "503", "5xx/io");
+		stats.forEach((operation, s) -> {
+			long[] latencies = s.sortedLatencies();
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("count", latencies.length);
+			summary.put("throughput", latencies.length / elapsedSeconds);
+			summary.put("p50Millis", percentile(latencies, 0.50));
+			summary.put("p99Millis", percentile(latencies, 0.99));
+			summary.put("p999Millis", percentile(latencies, 0.999));
+			summary.put("clientErrors", s.clientErrors.get());
+			summary.put("rejected", s.rejected.get());
+			summary.put("serverErrors", s.serverErrors.get());
+			operations.put(operation, summary);
+			System.out.printf(Locale.ROOT, "%-12s %8d %10.1f %10.2f %10.2f %10.2f %8d %8d %8d%n", operation,
+					latencies.length, latencies.length / elapsedSeconds, percentile(latencies, 0.50),
+					percentile(latencies, 0.99), percentile(latencies, 0.999), s.clientErrors.get(),
+					s.rejected.get(), s.serverErrors.get());
+		});
+		report.put("operations", operations);
+		return report;
+	}
+
+	private static double percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(quantile * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1e6;
+	}
+
+	private record SeededUser(long id, String username, String token) {
+	}
+
+	private static final class OperationStats {
+
+		private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		private final AtomicLong clientErrors = new AtomicLong();
+		private final AtomicLong rejected = new AtomicLong();
+		private final AtomicLong serverErrors = new AtomicLong();
+
+		void record(long latencyNanos, int status) {
+			latencies.add(latencyNanos);
+			if (status == 503) {
+				rejected.incrementAndGet();
+			} else if (status < 0 || status >= 500) {
+				serverErrors.incrementAndGet();
+			} else if (status >= 400) {
+				clientErrors.incrementAndGet();
+			}
+		}
+
+		long[] sortedLatencies() {
+			long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.travel.user_management.JwtAuth;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * JMH benchmark measuring the per-request cost of JwtAuthenticationFilter
+ * for a valid bearer token, with and without the verified-token cache.
+ * 
+ * The user lookup is an in-memory stub, so the numbers cover token handling
+ * and security context setup only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789abcdef";
+
+    @Param({ "true", "false" })
+    private boolean verifiedTokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        JwtAuthenticationHelper jwtHelper = new JwtAuthenticationHelper(SECRET, 3600);
+        UserDetails user = User.withUsername("benchmark-user")
+                .password("n/a")
+                .roles("USER")
+                .build();
+        StaticListableBeanFactory beanFactory = verifiedTokenCache
+                ? new StaticListableBeanFactory(Map.of("verifiedTokenCache", new VerifiedTokenCache(1000)))
+                : new StaticListableBeanFactory();
+        filter = new JwtAuthenticationFilter(jwtHelper, username -> user, new TokenRevocationList(),
+                beanFactory.getBeanProvider(VerifiedTokenCache.class), new SimpleMeterRegistry(), false);
+        authorization = "Bearer " + jwtHelper.generateToken(user);
+    }
+
+    @Benchmark
+    public Authentication filterValidToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/getuserbyid/1");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
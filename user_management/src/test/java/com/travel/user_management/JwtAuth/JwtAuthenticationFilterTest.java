@@ -0,0 +1,92 @@
+package com.travel.user_management.JwtAuth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtAuthenticationFilterTest {
+
+	private static final String SECRET =
+			"filter-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JwtAuthenticationHelper jwtHelper =
+			new JwtAuthenticationHelper(JwtSigningKeys.hmac(SECRET), 900, meterRegistry);
+	private final TokenRevocationList revocationList = new TokenRevocationList();
+	private final UserDetails user = User.withUsername("alice").password("n/a").roles("USER").build();
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private JwtAuthenticationFilter filter(VerifiedTokenCache verifiedTokenCache) {
+		StaticListableBeanFactory beanFactory = verifiedTokenCache != null
+				? new StaticListableBeanFactory(Map.of("verifiedTokenCache", verifiedTokenCache))
+				: new StaticListableBeanFactory();
+		return new JwtAuthenticationFilter(jwtHelper, username -> user, revocationList,
+				beanFactory.getBeanProvider(VerifiedTokenCache.class), meterRegistry, false);
+	}
+
+	private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/getuserbyid/1");
+		request.addHeader("Authorization", "Bearer " + token);
+		try {
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private void revoke(String token) {
+		Claims claims = jwtHelper.getClaimsFromToken(token);
+		revocationList.revoke(claims.getId(), claims.getExpiration());
+	}
+
+	@Test
+	void revokedTokenIsRejected() throws Exception {
+		JwtAuthenticationFilter filter = filter(null);
+		String token = jwtHelper.generateToken(user);
+		assertNotNull(authenticate(filter, token));
+
+		revoke(token);
+
+		assertNull(authenticate(filter, token));
+		assertNotNull(authenticate(filter, jwtHelper.generateToken(user)), "other tokens stay valid");
+		assertEquals(1, meterRegistry.get("jwt.filter").tag("outcome", "revoked").timer().count());
+		assertNull(meterRegistry.find("jwt.parse").tag("outcome", "revoked").timer(),
+				"parsing cannot see revocation, so it has no revoked timer");
+	}
+
+	@Test
+	void revokedTokenIsRejectedEvenWhenAlreadyVerified() throws Exception {
+		VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+		JwtAuthenticationFilter filter = filter(verifiedTokenCache);
+		String token = jwtHelper.generateToken(user);
+		assertNotNull(authenticate(filter, token));
+		assertEquals(1, verifiedTokenCache.size());
+
+		revoke(token);
+
+		long hits = verifiedTokenCache.getHitCount();
+		assertNull(authenticate(filter, token));
+		assertEquals(hits + 1, verifiedTokenCache.getHitCount(), "the token was still served from the cache");
+	}
+}
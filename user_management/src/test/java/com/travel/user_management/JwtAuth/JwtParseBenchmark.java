@@ -0,0 +1,73 @@
+package com.travel.user_management.JwtAuth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JMH benchmark measuring the per-token parse cost of the JWT helper.
+ * 
+ * Compares the shared, pre-built parser against the previous approach of
+ * rebuilding a parser and re-deriving the key on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789abcdef";
+
+    private JwtAuthenticationHelper jwtHelper;
+    private String secretKey;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtHelper = new JwtAuthenticationHelper(SECRET, 3600);
+        secretKey = SECRET;
+        token = jwtHelper.generateToken(User.withUsername("benchmark-user")
+                .password("n/a")
+                .roles("USER")
+                .build());
+    }
+
+    @Benchmark
+    public Claims parseWithCachedParser() {
+        return jwtHelper.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public Claims parseWithRebuiltParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey.getBytes())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtParseBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
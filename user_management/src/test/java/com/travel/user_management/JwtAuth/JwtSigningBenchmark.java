@@ -0,0 +1,76 @@
+package com.travel.user_management.JwtAuth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * JMH benchmark comparing sign and verify throughput of the supported
+ * signing algorithms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789abcdef";
+
+    @Param({ "HS512", "RS256", "ES256" })
+    private String algorithm;
+
+    private JwtAuthenticationHelper jwtHelper;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        JwtSigningKeys signingKeys = signatureAlgorithm == SignatureAlgorithm.HS512
+                ? JwtSigningKeys.hmac(SECRET)
+                : JwtSigningKeys.generated(signatureAlgorithm, null);
+        jwtHelper = new JwtAuthenticationHelper(signingKeys, 3600);
+        user = User.withUsername("benchmark-user")
+                .password("n/a")
+                .roles("USER")
+                .build();
+        token = jwtHelper.generateToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtHelper.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtHelper.getClaimsFromToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtSigningBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
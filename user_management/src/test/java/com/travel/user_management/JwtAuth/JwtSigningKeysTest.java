@@ -0,0 +1,123 @@
+package com.travel.user_management.JwtAuth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+class JwtSigningKeysTest {
+
+	/**
+	 * PKCS12 key store with the RSA key pairs "key-2024" and "key-2025".
+	 */
+	private static final String KEY_STORE = "/jwt-signing-test.p12";
+	private static final String KEY_STORE_PASSWORD = "changeit";
+
+	private static final String SECRET =
+			"signing-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+	private final UserDetails user = User.withUsername("alice").password("n/a").roles("USER").build();
+
+	private static JwtSigningKeys fromKeyStore(String activeKeyId, String hmacSecret) throws Exception {
+		try (InputStream keyStore = JwtSigningKeysTest.class.getResourceAsStream(KEY_STORE)) {
+			return JwtSigningKeys.fromKeyStore(SignatureAlgorithm.RS256, keyStore, KEY_STORE_PASSWORD, activeKeyId,
+					hmacSecret);
+		}
+	}
+
+	@Test
+	void loadsEveryAliasOfAPkcs12KeyStore() throws Exception {
+		JwtSigningKeys keys = fromKeyStore("key-2025", null);
+
+		assertEquals(SignatureAlgorithm.RS256, keys.getAlgorithm());
+		assertEquals("key-2025", keys.getActiveKeyId());
+		assertEquals("RSA", keys.getSigningKey().getAlgorithm());
+	}
+
+	@Test
+	void rejectsAKeyStoreThatDoesNotMatchTheAlgorithm() throws Exception {
+		try (InputStream keyStore = getClass().getResourceAsStream(KEY_STORE)) {
+			assertThrows(IllegalStateException.class, () -> JwtSigningKeys.fromKeyStore(SignatureAlgorithm.ES256,
+					keyStore, KEY_STORE_PASSWORD, "key-2025", null));
+		}
+		try (InputStream keyStore = getClass().getResourceAsStream(KEY_STORE)) {
+			assertThrows(IllegalStateException.class, () -> JwtSigningKeys.fromKeyStore(SignatureAlgorithm.RS256,
+					keyStore, KEY_STORE_PASSWORD, "missing", null));
+		}
+	}
+
+	@Test
+	void verifiesWithTheKeyNamedByTheKid() throws Exception {
+		JwtAuthenticationHelper oldSigner = new JwtAuthenticationHelper(fromKeyStore("key-2024", null), 900);
+		JwtAuthenticationHelper rotated = new JwtAuthenticationHelper(fromKeyStore("key-2025", null), 900);
+		String oldToken = oldSigner.generateToken(user);
+		String newToken = rotated.generateToken(user);
+
+		assertTrue(rotated.validateToken(oldToken).isValid(), "tokens of the previous key still verify");
+		assertTrue(oldSigner.validateToken(newToken).isValid());
+
+		JwtAuthenticationHelper otherStore = new JwtAuthenticationHelper(
+				JwtSigningKeys.generated(SignatureAlgorithm.RS256, null), 900);
+		assertEquals(JwtValidationResult.Status.BAD_SIGNATURE, otherStore.validateToken(newToken).getStatus(),
+				"an unknown kid must not verify");
+	}
+
+	@Test
+	void acceptsHmacTokensWithoutKidOnlyWhileEnabled() throws Exception {
+		String hmacToken = new JwtAuthenticationHelper(SECRET, 900).generateToken(user);
+
+		JwtAuthenticationHelper accepting = new JwtAuthenticationHelper(fromKeyStore("key-2025", SECRET), 900);
+		JwtAuthenticationHelper refusing = new JwtAuthenticationHelper(fromKeyStore("key-2025", null), 900);
+
+		assertTrue(accepting.validateToken(hmacToken).isValid());
+		assertEquals(JwtValidationResult.Status.BAD_SIGNATURE, refusing.validateToken(hmacToken).getStatus());
+	}
+
+	@Test
+	void exportsRsaKeysAsAJwkSet() throws Exception {
+		List<Map<String, Object>> keys = keys(fromKeyStore("key-2025", SECRET).toJwks());
+
+		assertEquals(2, keys.size());
+		assertEquals(List.of("key-2024", "key-2025"), keys.stream().map(key -> key.get("kid")).sorted().toList());
+		for (Map<String, Object> key : keys) {
+			assertEquals("RSA", key.get("kty"));
+			assertEquals("sig", key.get("use"));
+			assertEquals("RS256", key.get("alg"));
+			assertEquals("AQAB", key.get("e"));
+			assertEquals(342, ((String) key.get("n")).length(), "2048-bit modulus without a sign byte");
+		}
+	}
+
+	@Test
+	void exportsEcKeysAsAJwkSet() {
+		JwtSigningKeys keys = JwtSigningKeys.generated(SignatureAlgorithm.ES256, null);
+
+		Map<String, Object> key = keys(keys.toJwks()).get(0);
+
+		assertEquals("EC", key.get("kty"));
+		assertEquals("P-256", key.get("crv"));
+		assertEquals("ES256", key.get("alg"));
+		assertEquals(keys.getActiveKeyId(), key.get("kid"));
+		assertEquals(43, ((String) key.get("x")).length());
+		assertEquals(43, ((String) key.get("y")).length());
+	}
+
+	@Test
+	void hmacKeysPublishNothing() {
+		assertEquals(List.of(), keys(JwtSigningKeys.hmac(SECRET).toJwks()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> keys(Map<String, Object> jwks) {
+		return (List<Map<String, Object>>) jwks.get("keys");
+	}
+}
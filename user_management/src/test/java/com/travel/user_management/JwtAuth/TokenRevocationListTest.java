@@ -0,0 +1,56 @@
+package com.travel.user_management.JwtAuth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import com.travel.user_management.MutableClock;
+
+class TokenRevocationListTest {
+
+	private static Date in(Duration duration) {
+		return Date.from(MutableClock.START.plus(duration));
+	}
+
+	@Test
+	void revokedTokenIsRejectedUntilItExpires() {
+		MutableClock clock = new MutableClock();
+		TokenRevocationList revocationList = new TokenRevocationList(clock);
+
+		revocationList.revoke("revoked", in(Duration.ofMinutes(15)));
+
+		assertTrue(revocationList.isRevoked("revoked"));
+		assertFalse(revocationList.isRevoked("other"));
+		clock.advance(Duration.ofMinutes(15));
+		assertFalse(revocationList.isRevoked("revoked"));
+	}
+
+	@Test
+	void alreadyExpiredTokenIsNotStored() {
+		TokenRevocationList revocationList = new TokenRevocationList(new MutableClock());
+
+		revocationList.revoke("expired", in(Duration.ofSeconds(-1)));
+
+		assertFalse(revocationList.isRevoked("expired"));
+		assertEquals(0, revocationList.size());
+	}
+
+	@Test
+	void purgeDropsOnlyExpiredEntries() {
+		MutableClock clock = new MutableClock();
+		TokenRevocationList revocationList = new TokenRevocationList(clock);
+		revocationList.revoke("short", in(Duration.ofMinutes(1)));
+		revocationList.revoke("long", in(Duration.ofMinutes(15)));
+
+		clock.advance(Duration.ofMinutes(1));
+		revocationList.purgeExpired();
+
+		assertEquals(1, revocationList.size());
+		assertTrue(revocationList.isRevoked("long"));
+	}
+}
@@ -0,0 +1,87 @@
+package com.travel.user_management.JwtAuth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.travel.user_management.MutableClock;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class VerifiedTokenCacheTest {
+
+	private static final Instant START = MutableClock.START;
+
+	private final AtomicInteger verifications = new AtomicInteger();
+
+	private Function<String, JwtValidationResult> validator(Instant expiration) {
+		return token -> {
+			verifications.incrementAndGet();
+			Claims claims = Jwts.claims().setSubject(token).setExpiration(Date.from(expiration));
+			return JwtValidationResult.valid(claims);
+		};
+	}
+
+	@Test
+	void repeatedTokenIsVerifiedOnce() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, new MutableClock());
+		Function<String, JwtValidationResult> validator = validator(START.plusSeconds(60));
+
+		JwtValidationResult first = cache.validate("token", validator);
+		JwtValidationResult second = cache.validate("token", validator);
+
+		assertSame(first, second);
+		assertEquals(1, verifications.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertTrue(cache.getEstimatedBytes() > 0);
+	}
+
+	@Test
+	void neverServesEntryPastExpiry() {
+		MutableClock clock = new MutableClock();
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+		cache.validate("token", validator(START.plusSeconds(60)));
+
+		clock.advance(Duration.ofSeconds(60));
+		cache.validate("token", token -> JwtValidationResult.invalid(JwtValidationResult.Status.EXPIRED));
+
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getEstimatedBytes());
+	}
+
+	@Test
+	void invalidResultsAreNotCached() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, new MutableClock());
+
+		JwtValidationResult result = cache.validate("token",
+				token -> JwtValidationResult.invalid(JwtValidationResult.Status.BAD_SIGNATURE));
+
+		assertFalse(result.isValid());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void staysWithinMaxSize() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(20, new MutableClock());
+		Function<String, JwtValidationResult> validator = validator(START.plusSeconds(60));
+
+		for (int i = 0; i < 100; i++) {
+			cache.validate("token-" + i, validator);
+		}
+
+		assertTrue(cache.size() <= 20, "size " + cache.size());
+		assertTrue(cache.getEvictionCount() >= 80);
+	}
+}
@@ -0,0 +1,36 @@
+package com.travel.user_management;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock for tests that only moves when told to.
+ */
+public final class MutableClock extends Clock {
+
+	public static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+	private volatile Instant now = START;
+
+	public void advance(Duration duration) {
+		now = now.plus(duration);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return this;
+	}
+
+	@Override
+	public Instant instant() {
+		return now;
+	}
+}
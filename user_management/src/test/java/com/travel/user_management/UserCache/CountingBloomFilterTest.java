@@ -0,0 +1,47 @@
+package com.travel.user_management.UserCache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CountingBloomFilterTest {
+
+	@Test
+	void addedValuesAreAlwaysReported() {
+		CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.add("u:user" + i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain("u:user" + i));
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.add("u:user" + i);
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("u:other" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void removedValueIsNoLongerReported() {
+		CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+		filter.add("u:alice");
+		filter.add("u:bob");
+
+		filter.remove("u:alice");
+
+		assertFalse(filter.mightContain("u:alice"));
+		assertTrue(filter.mightContain("u:bob"));
+	}
+}
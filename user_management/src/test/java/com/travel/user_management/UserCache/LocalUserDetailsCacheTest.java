@@ -0,0 +1,69 @@
+package com.travel.user_management.UserCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.travel.user_management.MutableClock;
+
+class LocalUserDetailsCacheTest {
+
+	private static UserDetails user(String username) {
+		return User.withUsername(username).password("hash").roles("USER").build();
+	}
+
+	@Test
+	void servesCachedUserAndCountsHitsAndMisses() {
+		LocalUserDetailsCache cache = new LocalUserDetailsCache(10, Duration.ofMinutes(5));
+
+		assertNull(cache.getUserFromCache("alice"));
+		cache.putUserInCache(user("alice"));
+		assertNotNull(cache.getUserFromCache("alice"));
+
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	void expiresEntriesAfterTtl() {
+		MutableClock clock = new MutableClock();
+		LocalUserDetailsCache cache = new LocalUserDetailsCache(10, Duration.ofSeconds(30), clock);
+
+		cache.putUserInCache(user("alice"));
+		clock.advance(Duration.ofSeconds(31));
+
+		assertNull(cache.getUserFromCache("alice"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedWhenFull() {
+		LocalUserDetailsCache cache = new LocalUserDetailsCache(2, Duration.ofMinutes(5));
+
+		cache.putUserInCache(user("alice"));
+		cache.putUserInCache(user("bob"));
+		cache.getUserFromCache("alice");
+		cache.putUserInCache(user("carol"));
+
+		assertNotNull(cache.getUserFromCache("alice"));
+		assertNull(cache.getUserFromCache("bob"));
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void removesInvalidatedUser() {
+		LocalUserDetailsCache cache = new LocalUserDetailsCache(10, Duration.ofMinutes(5));
+
+		cache.putUserInCache(user("alice"));
+		cache.removeUserFromCache("alice");
+
+		assertNull(cache.getUserFromCache("alice"));
+	}
+}
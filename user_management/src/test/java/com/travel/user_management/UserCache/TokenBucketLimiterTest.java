@@ -0,0 +1,66 @@
+package com.travel.user_management.UserCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.travel.user_management.MutableClock;
+
+class TokenBucketLimiterTest {
+
+	@Test
+	void rejectsOnceBurstIsSpentAndRefillsOverTime() {
+		MutableClock clock = new MutableClock();
+		TokenBucketLimiter limiter = new TokenBucketLimiter(3, 6, clock);
+
+		assertTrue(limiter.tryAcquire("alice"));
+		assertTrue(limiter.tryAcquire("alice"));
+		assertTrue(limiter.tryAcquire("alice"));
+		assertFalse(limiter.tryAcquire("alice"));
+		assertTrue(limiter.tryAcquire("bob"));
+
+		clock.advance(Duration.ofSeconds(10));
+		assertTrue(limiter.tryAcquire("alice"));
+		assertFalse(limiter.tryAcquire("alice"));
+		assertEquals(2, limiter.getRejectionCount());
+	}
+
+	@Test
+	void purgesBucketsThatHaveRefilled() {
+		MutableClock clock = new MutableClock();
+		TokenBucketLimiter limiter = new TokenBucketLimiter(3, 6, clock);
+		limiter.tryAcquire("alice");
+		limiter.tryAcquire("bob");
+		limiter.tryAcquire("bob");
+
+		clock.advance(Duration.ofSeconds(10));
+		limiter.purgeIdle();
+
+		assertEquals(1, limiter.size());
+	}
+
+	@Test
+	void refundGivesBackATokenUpToTheCapacity() {
+		MutableClock clock = new MutableClock();
+		TokenBucketLimiter limiter = new TokenBucketLimiter(2, 6, clock);
+
+		assertTrue(limiter.tryAcquire("alice"));
+		assertTrue(limiter.tryAcquire("alice"));
+		limiter.refund("alice");
+		assertTrue(limiter.tryAcquire("alice"));
+		assertFalse(limiter.tryAcquire("alice"));
+
+		limiter.refund("alice");
+		limiter.refund("alice");
+		limiter.refund("alice");
+		limiter.refund("bob");
+		assertTrue(limiter.tryAcquire("alice"));
+		assertTrue(limiter.tryAcquire("alice"));
+		assertFalse(limiter.tryAcquire("alice"));
+		assertEquals(1, limiter.size());
+	}
+}
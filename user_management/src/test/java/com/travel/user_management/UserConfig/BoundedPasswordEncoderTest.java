@@ -0,0 +1,143 @@
+package com.travel.user_management.UserConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Encoder that records where and how many hashes run at once.
+     */
+    private static final class RecordingEncoder implements PasswordEncoder {
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            threads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return "hashed-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed-" + rawPassword);
+        }
+    }
+
+    private static ThreadPoolExecutor pool(int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> new Thread(runnable, "hashing"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Test
+    void bulkConcurrencyStaysBelowThePoolSize() {
+        assertEquals(4, BoundedPasswordEncoder.bulkConcurrency(0, 8));
+        assertEquals(3, BoundedPasswordEncoder.bulkConcurrency(3, 8));
+        assertEquals(7, BoundedPasswordEncoder.bulkConcurrency(20, 8));
+        assertEquals(1, BoundedPasswordEncoder.bulkConcurrency(0, 2));
+        assertEquals(1, BoundedPasswordEncoder.bulkConcurrency(0, 1));
+    }
+
+    @Test
+    void encodeAllRespectsTheBulkLimitOnThePool() throws Exception {
+        executor = pool(4, 64);
+        RecordingEncoder delegate = new RecordingEncoder();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, executor, 2);
+        List<String> passwords = IntStream.range(0, 12).mapToObj(i -> "p" + i).toList();
+
+        List<String> encoded = encoder.encodeAll(passwords);
+
+        assertEquals(passwords.stream().map(p -> "hashed-" + p).toList(), encoded);
+        assertTrue(delegate.maxRunning.get() <= 2, "bulk hashes must stay within their limit");
+        assertEquals(Set.of("hashing"), delegate.threads, "nothing may be hashed on the caller's thread");
+        awaitNoBulkInFlight(encoder);
+    }
+
+    /**
+     * Permits are handed back when a task completes, just after its result is visible.
+     */
+    private static void awaitNoBulkInFlight(BoundedPasswordEncoder encoder) throws InterruptedException {
+        for (int i = 0; i < 100 && encoder.getBulkInFlight() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, encoder.getBulkInFlight());
+    }
+
+    @Test
+    void interactiveWorkKeepsAThreadDuringAnImport() throws Exception {
+        executor = pool(2, 2);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new RecordingEncoder(), executor, 1);
+        List<String> passwords = IntStream.range(0, 20).mapToObj(i -> "p" + i).toList();
+
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(() -> encoder.encodeAll(passwords));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("hashed-signin", encoder.encode("signin"));
+        }
+
+        assertEquals(20, bulk.get(10, TimeUnit.SECONDS).size());
+        assertEquals(0, encoder.getRejectionCount());
+    }
+
+    @Test
+    void encodeAllWaitsForAFullQueueInsteadOfHashingOnTheCaller() throws Exception {
+        executor = pool(1, 1);
+        RecordingEncoder delegate = new RecordingEncoder();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, executor, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        executor.execute(() -> { });
+
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(() -> encoder.encodeAll(List.of("a", "b")));
+        Thread.sleep(50);
+        assertFalse(bulk.isDone());
+
+        release.countDown();
+        assertEquals(List.of("hashed-a", "hashed-b"), bulk.get(10, TimeUnit.SECONDS));
+        assertEquals(Set.of("hashing"), delegate.threads);
+    }
+}
@@ -0,0 +1,36 @@
+package com.travel.user_management.UserConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class DataSourcePoolConfigTest {
+
+    @Test
+    void derivesPoolSizeFromCoresUnlessConfigured() {
+        assertEquals(9, DataSourcePoolConfig.poolSize(0, 4));
+        assertEquals(3, DataSourcePoolConfig.poolSize(0, 1));
+        assertEquals(20, DataSourcePoolConfig.poolSize(20, 4));
+    }
+
+    @Test
+    void sizesUnconfiguredPoolsOnly() {
+        BeanPostProcessor sizer = DataSourcePoolConfig.hikariPoolSizer(
+                new MockEnvironment().withProperty("datasource.pool-size", "7"));
+
+        try (HikariDataSource unconfigured = new HikariDataSource();
+                HikariDataSource configured = new HikariDataSource()) {
+            configured.setMaximumPoolSize(15);
+
+            sizer.postProcessAfterInitialization(unconfigured, "dataSource");
+            sizer.postProcessAfterInitialization(configured, "dataSource");
+
+            assertEquals(7, unconfigured.getMaximumPoolSize());
+            assertEquals(15, configured.getMaximumPoolSize());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.travel.user_management.UserConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.core.userdetails.User;
+
+import com.travel.user_management.JwtAuth.JwtAuthenticationHelper;
+import com.travel.user_management.JwtAuth.JwtSigningKeys;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+class JwtSigningConfigTest {
+
+    private static final String SECRET = "config-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(JwtSigningConfig.class)
+            .withPropertyValues("jwt.secretKey=" + SECRET);
+
+    @Test
+    void signsWithTheConfiguredSecretByDefault() {
+        contextRunner.run(context -> {
+            JwtSigningKeys keys = context.getBean(JwtSigningKeys.class);
+            assertThat(keys.getAlgorithm()).isEqualTo(SignatureAlgorithm.HS512);
+            assertThat(keys.getActiveKeyId()).isNull();
+            assertThat(keys.getSigningKey().getEncoded()).isEqualTo(SECRET.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    @Test
+    void loadsTheConfiguredKeyStore() {
+        contextRunner.withPropertyValues(
+                "jwt.signing.algorithm=RS256",
+                "jwt.signing.keystore.location=classpath:jwt-signing-test.p12",
+                "jwt.signing.keystore.password=changeit",
+                "jwt.signing.active-kid=key-2024").run(context -> {
+                    JwtSigningKeys keys = context.getBean(JwtSigningKeys.class);
+                    assertThat(keys.getAlgorithm()).isEqualTo(SignatureAlgorithm.RS256);
+                    assertThat(keys.getActiveKeyId()).isEqualTo("key-2024");
+                    assertThat(keys.toJwks().get("keys")).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(2);
+                });
+    }
+
+    @Test
+    void generatesAKeyPairWithoutAKeyStore() {
+        contextRunner.withPropertyValues("jwt.signing.algorithm=ES256").run(context -> {
+            JwtSigningKeys keys = context.getBean(JwtSigningKeys.class);
+            assertThat(keys.getAlgorithm()).isEqualTo(SignatureAlgorithm.ES256);
+            assertThat(keys.getActiveKeyId()).isNotBlank();
+            assertThat(keys.toJwks().get("keys")).asInstanceOf(InstanceOfAssertFactories.LIST).hasSize(1);
+        });
+    }
+
+    @Test
+    void rejectsHmacTokensAfterSwitchingUnlessMigrating() {
+        String hmacToken = new JwtAuthenticationHelper(SECRET, 900).generateToken(
+                User.withUsername("alice").password("n/a").roles("USER").build());
+
+        contextRunner.withPropertyValues("jwt.signing.algorithm=ES256").run(context -> {
+            JwtAuthenticationHelper helper = new JwtAuthenticationHelper(context.getBean(JwtSigningKeys.class), 900);
+            assertThat(helper.validateToken(hmacToken).isValid()).isFalse();
+        });
+        contextRunner.withPropertyValues("jwt.signing.algorithm=ES256", "jwt.signing.accept-hmac=true").run(context -> {
+            JwtAuthenticationHelper helper = new JwtAuthenticationHelper(context.getBean(JwtSigningKeys.class), 900);
+            assertThat(helper.validateToken(hmacToken).isValid()).isTrue();
+        });
+    }
+}
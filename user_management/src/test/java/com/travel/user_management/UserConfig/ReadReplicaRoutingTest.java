@@ -0,0 +1,98 @@
+package com.travel.user_management.UserConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.travel.user_management.UserDto.LoginRequest;
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserException.UserNotFoundException;
+import com.travel.user_management.UserRepository.UserRepository;
+import com.travel.user_management.UserService.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs against two embedded databases standing in for a primary and a
+ * replica that never catches up, so every read shows where it was served.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"datasource.replica.enabled=true",
+		"datasource.replica.urls=" + ReadReplicaRoutingTest.REPLICA_URL,
+		"datasource.replica.lag-tolerance-ms=60000",
+		// The filter is filled from a replica at startup, before the test has copied the schema over
+		"user.availability.filter.enabled=false" })
+class ReadReplicaRoutingTest {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private HikariDataSource primaryDataSource;
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = new JdbcTemplate(primaryDataSource);
+		replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+		// Give the replica the schema Hibernate created on the primary
+		List<String> schema = primary.queryForList("script nodata", String.class);
+		replica.execute("drop all objects");
+		schema.stream().filter(statement -> !statement.startsWith("CREATE USER")).forEach(replica::execute);
+		primary.update("delete from refresh_tokens");
+		primary.update("delete from users");
+	}
+
+	@Test
+	void freshSignupCanSignInWhileReplicaLags() {
+		userService.signup(userDto("fresh"));
+
+		assertEquals(0, replica.queryForObject("select count(*) from users where username = 'fresh'", Integer.class));
+		assertEquals(1, primary.queryForObject("select count(*) from users where username = 'fresh'", Integer.class));
+
+		LoginRequest request = new LoginRequest();
+		request.setUsername("fresh");
+		request.setPassword("secret");
+		assertNotNull(userService.signin(request, "10.0.0.1").getToken());
+	}
+
+	@Test
+	void readOnlyLookupsAreServedByReplica() {
+		replica.update("insert into users (user_id, name, email, username, phone_number, password, role) "
+				+ "values (42, 'Replica', 'replica@example.com', 'replica', '5550000042', 'x', 'USER')");
+
+		assertEquals("replica", userService.getUserById(42L).getUsername());
+		assertTrue(userRepository.findByUsername("replica").isPresent());
+		assertThrows(UserNotFoundException.class, () -> userService.deleteUserById(42L),
+				"writes must check the primary");
+	}
+
+	private static UserDto userDto(String username) {
+		UserDto userDto = new UserDto();
+		userDto.setName("Routing Test");
+		userDto.setUsername(username);
+		userDto.setEmail(username + "@example.com");
+		userDto.setPhoneNumber("555" + Math.abs(username.hashCode()));
+		userDto.setPassword("secret");
+		return userDto;
+	}
+}
@@ -0,0 +1,48 @@
+package com.travel.user_management.UserConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserCacheConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(UserCacheConfig.class);
+
+    @Test
+    void registersTheLocalCacheMetrics() {
+        contextRunner.run(context -> {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean("userCacheMetrics", MeterBinder.class).bindTo(registry);
+            UserCache userCache = context.getBean(UserCache.class);
+            UserDetails user = User.withUsername("alice").password("n/a").roles("USER").build();
+
+            userCache.getUserFromCache("alice");
+            userCache.putUserInCache(user);
+            userCache.getUserFromCache("alice");
+
+            assertThat(registry.get("user.cache.hits").functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("user.cache.misses").functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("user.cache.evictions").functionCounter().count()).isEqualTo(0.0);
+            assertThat(registry.get("user.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+            assertThat(registry.get("user.cache.size").gauge().value()).isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    void registersNothingWhenDisabled() {
+        contextRunner.withPropertyValues("user.cache.enabled=false").run(context -> {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean("userCacheMetrics", MeterBinder.class).bindTo(registry);
+
+            assertThat(registry.getMeters()).isEmpty();
+        });
+    }
+}
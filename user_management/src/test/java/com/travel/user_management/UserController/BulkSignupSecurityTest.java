@@ -0,0 +1,38 @@
+package com.travel.user_management.UserController;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulksignupsecurity;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class BulkSignupSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static MockHttpServletRequestBuilder bulkSignup() {
+        return post("/user/bulk-signup")
+                .contentType("text/csv")
+                .content("name,username,email,phoneNumber,password\nBulk User,bulk,bulk@example.com,5550000021,secret");
+    }
+
+    @Test
+    void bulkSignupRequiresAnAdmin() throws Exception {
+        mockMvc.perform(bulkSignup()).andExpect(status().isUnauthorized());
+        mockMvc.perform(bulkSignup().with(user("alice").roles("USER"))).andExpect(status().isForbidden());
+        mockMvc.perform(bulkSignup().with(user("importer").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+    }
+}
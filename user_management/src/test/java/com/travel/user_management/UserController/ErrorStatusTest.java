@@ -0,0 +1,71 @@
+package com.travel.user_management.UserController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs on a real port so exceptions go through the /error forward the way
+ * they do in production, where a security rule can still turn them into 401s.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:errorstatus;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "password.hashing.pool-size=1",
+        "password.hashing.queue-capacity=1" })
+class ErrorStatusTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ThreadPoolExecutor passwordHashingExecutor;
+
+    private static Map<String, String> signup(String username) {
+        return Map.of("name", "Error Test", "username", username, "email", username + "@example.com",
+                "phoneNumber", "555" + Math.abs(username.hashCode()), "password", "secret");
+    }
+
+    @Test
+    void duplicateSignupIsAConflict() {
+        assertEquals(HttpStatus.OK,
+                restTemplate.postForEntity("/user/signup", signup("taken"), String.class).getStatusCode());
+
+        assertEquals(HttpStatus.CONFLICT,
+                restTemplate.postForEntity("/user/signup", signup("taken"), String.class).getStatusCode());
+    }
+
+    @Test
+    void fullHashingQueueIsServiceUnavailable() throws Exception {
+        assertEquals(HttpStatus.OK,
+                restTemplate.postForEntity("/user/signup", signup("busy"), String.class).getStatusCode());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingExecutor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // Only queue the filler once the blocker has left the queue for the single thread
+        started.await();
+        passwordHashingExecutor.execute(() -> { });
+        try {
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, restTemplate.postForEntity("/user/signin",
+                    Map.of("username", "busy", "password", "secret"), String.class).getStatusCode());
+        } finally {
+            release.countDown();
+        }
+    }
+}
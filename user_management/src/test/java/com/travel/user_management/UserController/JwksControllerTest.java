@@ -0,0 +1,49 @@
+package com.travel.user_management.UserController;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.travel.user_management.JwtAuth.JwtSigningKeys;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+class JwksControllerTest {
+
+    @Test
+    void publishesThePublicKeysWithCacheHeaders() throws Exception {
+        JwtSigningKeys keys = JwtSigningKeys.generated(SignatureAlgorithm.RS256, null);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(keys, 300)).build();
+
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/jwk-set+json"))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys", hasSize(1)))
+                .andExpect(jsonPath("$.keys[0].kid").value(keys.getActiveKeyId()))
+                .andExpect(jsonPath("$.keys[0].kty").value("RSA"))
+                .andExpect(jsonPath("$.keys[0].alg").value("RS256"))
+                .andExpect(jsonPath("$.keys[0].use").value("sig"))
+                .andExpect(jsonPath("$.keys[0].n").isString())
+                .andExpect(jsonPath("$.keys[0].e").value("AQAB"))
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist());
+    }
+
+    @Test
+    void publishesAnEmptySetForHmac() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(
+                JwtSigningKeys.hmac("jwks-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789"), 300))
+                .build();
+
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.keys", hasSize(0)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.travel.user_management.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class UserSecondLevelCacheTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll();
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictAllRegions();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void lookupsByIdAndUsernameAreServedFromCache() {
+		Long id = userRepository.save(user("cached")).getId();
+
+		userRepository.findById(id);
+		userRepository.findByUsername("cached");
+		long queries = statistics.getPrepareStatementCount();
+		userRepository.findById(id);
+		userRepository.findByUsername("cached");
+
+		assertEquals(queries, statistics.getPrepareStatementCount(), "repeat lookups should not reach the database");
+		assertTrue(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount() >= 2);
+		assertTrue(statistics.getNaturalIdStatistics(User.class.getName()).getCacheHitCount() >= 1);
+	}
+
+	@Test
+	void updatesAndDeletesEvictStaleEntries() {
+		User saved = userRepository.save(user("before"));
+		userRepository.findByUsername("before");
+
+		saved.setUsername("after");
+		userRepository.save(saved);
+
+		assertTrue(userRepository.findByUsername("before").isEmpty());
+		assertEquals(saved.getId(), userRepository.findByUsername("after").orElseThrow().getId());
+		assertEquals("after", userRepository.findById(saved.getId()).orElseThrow().getUsername());
+
+		userRepository.deleteById(saved.getId());
+
+		assertTrue(userRepository.findById(saved.getId()).isEmpty());
+		assertTrue(userRepository.findByUsername("after").isEmpty());
+	}
+
+	private static User user(String username) {
+		User user = new User();
+		user.setName("Cache Test");
+		user.setUsername(username);
+		user.setEmail(username + "@example.com");
+		user.setPhoneNumber("555" + Math.abs(username.hashCode()));
+		user.setPassword("x");
+		user.setRole(Role.USER);
+		return user;
+	}
+}
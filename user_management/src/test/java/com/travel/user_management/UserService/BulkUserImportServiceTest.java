@@ -0,0 +1,203 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserConfig.BoundedPasswordEncoder;
+import com.travel.user_management.UserDto.BulkImportReport;
+import com.travel.user_management.UserDto.BulkImportRowResult;
+import com.travel.user_management.UserDto.BulkImportRowResult.Status;
+import com.travel.user_management.UserException.InvalidBulkImportException;
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserRepository.UserRepository;
+import com.travel.user_management.UserService.BulkUserImportService.Format;
+
+import jakarta.validation.Validator;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulkimport;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class BulkUserImportServiceTest {
+
+	private static final String CSV_HEADER = "password,phoneNumber,email,username,name";
+
+	@Autowired
+	private BulkUserImportService importService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BoundedPasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Validator validator;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("delete from refresh_tokens");
+		userRepository.deleteAll();
+	}
+
+	private static BufferedReader input(String... lines) {
+		return new BufferedReader(new StringReader(String.join("\n", lines)));
+	}
+
+	private static String csv(String username) {
+		return "secret,555" + Math.abs(username.hashCode()) + "," + username + "@example.com," + username + ",Bulk User";
+	}
+
+	private static String json(String username) {
+		return "{\"name\":\"Bulk User\",\"username\":\"" + username + "\",\"email\":\"" + username
+				+ "@example.com\",\"phoneNumber\":\"555" + Math.abs(username.hashCode()) + "\",\"password\":\"secret\"}";
+	}
+
+	private static BulkImportRowResult row(BulkImportReport report, int row) {
+		return report.getResults().get(row - 1);
+	}
+
+	@Test
+	void parsesCsvWithHeaderInAnyOrderAndQuotedFields() {
+		BulkImportReport report = importService.importUsers(input(
+				CSV_HEADER,
+				"\"se,\"\"cret\",5550000001,quoted@example.com,quoted,\"Doe, Jane\"",
+				"",
+				csv("plain"),
+				"secret,5550000003,,missing,Missing Email"), Format.CSV);
+
+		assertEquals(3, report.getTotal());
+		assertEquals(2, report.getCreated());
+		assertEquals("Missing email", row(report, 3).getMessage());
+		User quoted = userRepository.findByUsername("quoted").orElseThrow();
+		assertEquals("Doe, Jane", quoted.getName());
+		assertTrue(passwordEncoder.matches("se,\"cret", quoted.getPassword()));
+		assertEquals(Role.USER, quoted.getRole());
+	}
+
+	@Test
+	void appliesTheEntityConstraintsToEveryRow() {
+		BulkImportReport report = importService.importUsers(input(
+				CSV_HEADER,
+				"secret,5550000011,not-an-email,bademail,Bad Email",
+				csv("goodemail")), Format.CSV);
+
+		assertEquals(1, report.getCreated());
+		assertEquals(Status.FAILED, row(report, 1).getStatus());
+		assertEquals("Email is not valid", row(report, 1).getMessage());
+		assertFalse(userRepository.existsByUsername("bademail"));
+	}
+
+	@Test
+	void rejectsCsvWithoutARequiredColumn() {
+		assertThrows(InvalidBulkImportException.class,
+				() -> importService.importUsers(input("name,username,email,password", "a,b,c,d"), Format.CSV));
+	}
+
+	@Test
+	void parsesNdjsonAndReportsMalformedLines() {
+		BulkImportReport report = importService.importUsers(input(json("first"), "{not json", json("second")),
+				Format.NDJSON);
+
+		assertEquals(2, report.getCreated());
+		assertEquals(Status.FAILED, row(report, 2).getStatus());
+		assertEquals("Malformed JSON record", row(report, 2).getMessage());
+		assertTrue(userRepository.existsByUsername("first"));
+		assertTrue(userRepository.existsByUsername("second"));
+	}
+
+	@Test
+	void rejectsDuplicatesWithinAChunk() {
+		BulkImportReport report = importService.importUsers(input(
+				CSV_HEADER,
+				csv("twice"),
+				csv("twice"),
+				"secret,5559999999,twice@example.com,other,Same Email"), Format.CSV);
+
+		assertEquals(1, report.getCreated());
+		assertEquals("Duplicate username in import", row(report, 2).getMessage());
+		assertEquals("Duplicate email in import", row(report, 3).getMessage());
+	}
+
+	@Test
+	void rejectsValuesAlreadyTakenInTheDatabase() {
+		importService.importUsers(input(CSV_HEADER, csv("existing")), Format.CSV);
+
+		BulkImportReport report = importService.importUsers(input(
+				CSV_HEADER,
+				"secret,5551111111,other@example.com,existing,Taken Username",
+				"secret,5551234567,existing@example.com,newname,Taken Email",
+				"secret,555" + Math.abs("existing".hashCode()) + ",new@example.com,newer,Taken Phone",
+				csv("fresh")), Format.CSV);
+
+		assertEquals("Username already exists", row(report, 1).getMessage());
+		assertEquals("Email already exists", row(report, 2).getMessage());
+		assertEquals("Phone number already exists", row(report, 3).getMessage());
+		assertEquals(Status.CREATED, row(report, 4).getStatus());
+	}
+
+	@Test
+	void fallsBackToRowByRowWhenTheBatchHitsAConflict() {
+		importService.importUsers(input(CSV_HEADER, csv("raced")), Format.CSV);
+		// A repository that misses the conflict, as if the user signed up after the check
+		UserRepository staleRepository = mock(UserRepository.class);
+		when(staleRepository.findExistingUsernames(any())).thenReturn(List.of());
+		when(staleRepository.findExistingEmails(any())).thenReturn(List.of());
+		when(staleRepository.findExistingPhoneNumbers(any())).thenReturn(List.of());
+		UserAvailabilityService availabilityService =
+				new UserAvailabilityService(staleRepository, new CountingBloomFilter(100, 0.01), false);
+		BulkUserImportService racingService = new BulkUserImportService(staleRepository, passwordEncoder,
+				jdbcTemplate, transactionTemplate, objectMapper, validator, availabilityService, 500);
+
+		BulkImportReport report = racingService.importUsers(input(
+				CSV_HEADER, csv("before"), csv("raced"), csv("after")), Format.CSV);
+
+		assertEquals(2, report.getCreated());
+		assertEquals("User already exists", row(report, 2).getMessage());
+		assertTrue(userRepository.existsByUsername("before"));
+		assertTrue(userRepository.existsByUsername("after"));
+		verify(staleRepository, times(1)).findExistingUsernames(any());
+	}
+
+	@Test
+	void splitsTheInputIntoChunks() {
+		BulkUserImportService chunkedService = new BulkUserImportService(userRepository, passwordEncoder,
+				jdbcTemplate, transactionTemplate, objectMapper, validator,
+				new UserAvailabilityService(userRepository, new CountingBloomFilter(100, 0.01), false), 2);
+
+		BulkImportReport report = chunkedService.importUsers(input(
+				json("c1"), json("c2"), json("c3"), json("c1")), Format.NDJSON);
+
+		assertEquals(3, report.getCreated());
+		assertEquals("Username already exists", row(report, 4).getMessage());
+	}
+}
@@ -0,0 +1,60 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserRepository.UserRepository;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:userdetails;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class CustomUserDetailsServiceTest {
+
+	@Autowired
+	private CustomUserDetailsService userDetailsService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void passwordUpgradeKeepsChangesMadeAfterThePrincipalWasCached() {
+		User user = new User();
+		user.setName("Before");
+		user.setUsername("upgrade");
+		user.setEmail("before@example.com");
+		user.setPhoneNumber("5550001111");
+		user.setPassword("{bcrypt}old");
+		user.setRole(Role.USER);
+		Long id = userRepository.save(user).getId();
+
+		UserDetails cached = userDetailsService.loadUserByUsername("upgrade");
+
+		// Changed by another request while the principal sits in the user cache
+		User current = userRepository.findCurrentById(id).orElseThrow();
+		current.setName("After");
+		current.setEmail("after@example.com");
+		current.setRole(Role.ADMIN);
+		userRepository.save(current);
+
+		userDetailsService.updatePassword(cached, "{bcrypt}new");
+
+		User stored = userRepository.findCurrentById(id).orElseThrow();
+		assertEquals("{bcrypt}new", stored.getPassword());
+		assertEquals("After", stored.getName());
+		assertEquals("after@example.com", stored.getEmail());
+		assertEquals(Role.ADMIN, stored.getRole());
+		assertEquals("{bcrypt}new", userDetailsService.loadUserByUsername("upgrade").getPassword());
+	}
+}
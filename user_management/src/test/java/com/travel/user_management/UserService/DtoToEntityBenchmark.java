@@ -0,0 +1,81 @@
+package com.travel.user_management.UserService;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travel.user_management.JwtAuth.JwtAuthenticationHelper;
+import com.travel.user_management.JwtAuth.TokenRevocationList;
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserRepository.UserRepository;
+
+/**
+ * JMH benchmark measuring UserService.DtoToEntity, the per-signup mapping
+ * step, which is dominated by hashing the password.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DtoToEntityBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789abcdef";
+
+    @Param({ "4", "10" })
+    private int strength;
+
+    private UserService userService;
+    private UserDto userDto;
+
+    @Setup
+    public void setup() {
+        UserRepository userRepository = mock(UserRepository.class);
+        userService = new UserService(userRepository, new BCryptPasswordEncoder(strength),
+                mock(AuthenticationManager.class), new JwtAuthenticationHelper(SECRET, 900), new NullUserCache(),
+                new TransactionTemplate(),
+                new UserAvailabilityService(userRepository, new CountingBloomFilter(100, 0.01), false),
+                new TokenRevocationList(), mock(RefreshTokenService.class), LoginAttemptLimiter.disabled(), ReplicaLagPolicy.disabled());
+
+        userDto = new UserDto();
+        userDto.setName("Benchmark User");
+        userDto.setUsername("benchmark-user");
+        userDto.setEmail("benchmark@example.com");
+        userDto.setPhoneNumber("5550000000");
+        userDto.setPassword("correct horse battery staple");
+    }
+
+    @Benchmark
+    public User dtoToEntity() {
+        return userService.DtoToEntity(userDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DtoToEntityBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
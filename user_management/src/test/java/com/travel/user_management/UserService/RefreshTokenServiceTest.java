@@ -0,0 +1,67 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.travel.user_management.UserException.InvalidRefreshTokenException;
+import com.travel.user_management.UserRepository.RefreshTokenRepository;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:refresh;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"jwt.secretKey=refresh-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789",
+		"password.bcrypt.strength=4" })
+class RefreshTokenServiceTest {
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenRepository.deleteAll();
+	}
+
+	@Test
+	void rotationIssuesNewTokenForSameUser() {
+		String token = refreshTokenService.issue(1L);
+
+		RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(token);
+
+		assertEquals(1L, rotated.userId());
+		assertNotEquals(token, rotated.refreshToken());
+	}
+
+	@Test
+	void reusedTokenRevokesWholeFamily() {
+		String first = refreshTokenService.issue(1L);
+		String second = refreshTokenService.rotate(first).refreshToken();
+
+		assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(first));
+		assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(second));
+	}
+
+	@Test
+	void revokedTokenIsRejected() {
+		String token = refreshTokenService.issue(1L);
+
+		refreshTokenService.revoke(token);
+
+		assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(token));
+	}
+
+	@Test
+	void unknownTokenIsRejected() {
+		assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("not-a-token"));
+	}
+}
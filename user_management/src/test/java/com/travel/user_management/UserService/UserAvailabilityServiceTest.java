@@ -0,0 +1,77 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserDto.UserSummary;
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserRepository.UserRepository;
+
+class UserAvailabilityServiceTest {
+
+	private UserRepository userRepository;
+	private UserAvailabilityService availabilityService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findSummaries(any(Limit.class))).thenReturn(List.of());
+		when(userRepository.findSummariesAfter(anyLong(), any(Limit.class))).thenReturn(List.of());
+		availabilityService = new UserAvailabilityService(userRepository, new CountingBloomFilter(1000, 0.01), true);
+		availabilityService.loadExistingUsers();
+	}
+
+	@Test
+	void unseenValuesSkipTheDatabase() {
+		assertTrue(availabilityService.isUsernameAvailable("alice"));
+
+		verify(userRepository, never()).existsByUsername(anyString());
+	}
+
+	@Test
+	void usernamesAndEmailsMatchWhateverTheirCase() {
+		availabilityService.register("alice", "Alice@Example.com", "5550001");
+		when(userRepository.existsByUsername("ALICE")).thenReturn(true);
+		when(userRepository.existsByEmail("alice@example.COM")).thenReturn(true);
+
+		assertFalse(availabilityService.isUsernameAvailable("ALICE"));
+		assertFalse(availabilityService.isEmailAvailable("alice@example.COM"));
+	}
+
+	@Test
+	void refreshPicksUpUsersCreatedElsewhere() {
+		when(userRepository.existsByUsername("bob")).thenReturn(true);
+		when(userRepository.findSummaries(any(Limit.class))).thenReturn(
+				List.of(new UserSummary(1L, "Bob", "bob", "bob@example.com", "5550002", Role.USER)));
+		assertTrue(availabilityService.isUsernameAvailable("bob"), "not yet known to this instance");
+
+		availabilityService.refresh();
+
+		assertFalse(availabilityService.isUsernameAvailable("bob"));
+		assertTrue(availabilityService.isPhoneNumberAvailable("5550003"));
+	}
+
+	@Test
+	void refreshDropsUsersRemovedElsewhere() {
+		availabilityService.register("carol", "carol@example.com", "5550004");
+
+		availabilityService.refresh();
+
+		assertTrue(availabilityService.isUsernameAvailable("carol"));
+		verify(userRepository, never()).existsByUsername(anyString());
+	}
+}
@@ -0,0 +1,109 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travel.user_management.JwtAuth.JwtAuthenticationHelper;
+import com.travel.user_management.JwtAuth.TokenRevocationList;
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserDto.UserSummary;
+import com.travel.user_management.UserException.UserNotFoundException;
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserRepository.UserRepository;
+
+class UserServicePatchTest {
+
+	private UserRepository userRepository;
+	private PasswordEncoder passwordEncoder;
+	private UserCache userCache;
+	private UserService userService;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = new User();
+		user.setId(1L);
+		user.setName("Alice");
+		user.setUsername("alice");
+		user.setEmail("alice@example.com");
+		user.setPhoneNumber("5550000001");
+		user.setPassword("{bcrypt}old");
+		user.setRole(Role.USER);
+
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findCurrentById(1L)).thenReturn(Optional.of(user));
+		when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		passwordEncoder = mock(PasswordEncoder.class);
+		when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "{bcrypt}" + invocation.getArgument(0));
+		userCache = mock(UserCache.class);
+
+		userService = new UserService(userRepository, passwordEncoder, null,
+				new JwtAuthenticationHelper("patch-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789", 900),
+				userCache, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+				new UserAvailabilityService(userRepository, new CountingBloomFilter(100, 0.01), false),
+				new TokenRevocationList(), mock(RefreshTokenService.class), LoginAttemptLimiter.disabled(), ReplicaLagPolicy.disabled());
+	}
+
+	@Test
+	void changesOnlyTheSuppliedFields() {
+		UserDto patch = new UserDto();
+		patch.setEmail("new@example.com");
+
+		UserSummary summary = userService.patchUserById(1L, patch);
+
+		assertEquals("new@example.com", summary.getEmail());
+		assertEquals("Alice", user.getName());
+		assertEquals("alice", user.getUsername());
+		assertEquals("5550000001", user.getPhoneNumber());
+		assertEquals("{bcrypt}old", user.getPassword());
+		assertEquals(Role.USER, user.getRole());
+		verify(passwordEncoder, never()).encode(any());
+	}
+
+	@Test
+	void hashesOnlyWhenAPasswordIsSupplied() {
+		UserDto patch = new UserDto();
+		patch.setPassword("changed");
+
+		userService.patchUserById(1L, patch);
+
+		assertEquals("{bcrypt}changed", user.getPassword());
+		verify(passwordEncoder, times(1)).encode("changed");
+	}
+
+	@Test
+	void usernameChangeEvictsOldAndNewCacheKeys() {
+		UserDto patch = new UserDto();
+		patch.setUsername("alicia");
+
+		UserSummary summary = userService.patchUserById(1L, patch);
+
+		assertEquals("alicia", summary.getUsername());
+		verify(userCache).removeUserFromCache("alice");
+		verify(userCache).removeUserFromCache("alicia");
+	}
+
+	@Test
+	void missingUserIsNotFound() {
+		assertThrows(UserNotFoundException.class, () -> userService.patchUserById(2L, new UserDto()));
+		verify(userRepository, never()).saveAndFlush(any());
+	}
+}
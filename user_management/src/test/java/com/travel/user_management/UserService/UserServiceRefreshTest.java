@@ -0,0 +1,128 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.travel.user_management.JwtAuth.JwtAuthenticationHelper;
+import com.travel.user_management.UserDto.LoginRequest;
+import com.travel.user_management.UserDto.LoginResponse;
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserException.InvalidRefreshTokenException;
+import com.travel.user_management.UserRepository.RefreshTokenRepository;
+import com.travel.user_management.UserRepository.UserRepository;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:userrefresh;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"jwt.secretKey=userrefresh-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789",
+		"password.bcrypt.strength=4" })
+class UserServiceRefreshTest {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private JwtAuthenticationHelper jwtHelper;
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	private static UserDto user(String username, String email, String phoneNumber) {
+		UserDto userDto = new UserDto();
+		userDto.setName("Test User");
+		userDto.setUsername(username);
+		userDto.setEmail(email);
+		userDto.setPhoneNumber(phoneNumber);
+		userDto.setPassword("secret");
+		return userDto;
+	}
+
+	private String signin(String username) {
+		LoginRequest request = new LoginRequest();
+		request.setUsername(username);
+		request.setPassword("secret");
+		return userService.signin(request).getRefreshToken();
+	}
+
+	private Long idOf(String username) {
+		return userRepository.findByUsername(username).orElseThrow().getId();
+	}
+
+	@Test
+	void refreshTokensOfADeletedUserDoNotCarryOverToANewSignup() {
+		userService.signup(user("alice", "alice@example.com", "5550001"));
+		String refreshToken = signin("alice");
+
+		userService.deleteUserById(idOf("alice"));
+		userService.signup(user("alice", "new-alice@example.com", "5550002"));
+
+		assertThrows(InvalidRefreshTokenException.class, () -> userService.refresh(refreshToken));
+	}
+
+	@Test
+	void renamingAUserRevokesTheirRefreshTokens() {
+		userService.signup(user("alice", "alice@example.com", "5550001"));
+		String refreshToken = signin("alice");
+
+		UserDto rename = new UserDto();
+		rename.setUsername("alicia");
+		userService.patchUserById(idOf("alice"), rename);
+		userService.signup(user("alice", "new-alice@example.com", "5550002"));
+
+		assertThrows(InvalidRefreshTokenException.class, () -> userService.refresh(refreshToken));
+	}
+
+	@Test
+	void replacingAUserRevokesTheirRefreshTokens() {
+		userService.signup(user("alice", "alice@example.com", "5550001"));
+		String refreshToken = signin("alice");
+
+		userService.updateUserById(idOf("alice"), user("alicia", "alice@example.com", "5550001"));
+		userService.signup(user("alice", "new-alice@example.com", "5550002"));
+
+		assertThrows(InvalidRefreshTokenException.class, () -> userService.refresh(refreshToken));
+	}
+
+	@Test
+	void changingThePasswordRevokesTheRefreshTokens() {
+		userService.signup(user("alice", "alice@example.com", "5550001"));
+		String refreshToken = signin("alice");
+
+		UserDto passwordChange = new UserDto();
+		passwordChange.setPassword("new-secret");
+		userService.patchUserById(idOf("alice"), passwordChange);
+
+		assertThrows(InvalidRefreshTokenException.class, () -> userService.refresh(refreshToken));
+	}
+
+	@Test
+	void otherChangesKeepTheRefreshTokens() {
+		userService.signup(user("alice", "alice@example.com", "5550001"));
+		String refreshToken = signin("alice");
+
+		UserDto nameChange = new UserDto();
+		nameChange.setName("Alice Liddell");
+		userService.patchUserById(idOf("alice"), nameChange);
+
+		LoginResponse refreshed = userService.refresh(refreshToken);
+		assertNotNull(refreshed.getRefreshToken());
+		assertEquals("alice", jwtHelper.getUsernameFromToken(refreshed.getToken()));
+	}
+}
@@ -0,0 +1,268 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travel.user_management.MutableClock;
+import com.travel.user_management.JwtAuth.JwtAuthenticationHelper;
+import com.travel.user_management.JwtAuth.TokenRevocationList;
+import com.travel.user_management.UserCache.CountingBloomFilter;
+import com.travel.user_management.UserCache.TokenBucketLimiter;
+import com.travel.user_management.UserDto.LoginRequest;
+import com.travel.user_management.UserDto.LoginResponse;
+import com.travel.user_management.UserException.TooManyLoginAttemptsException;
+import com.travel.user_management.UserModel.Role;
+import com.travel.user_management.UserModel.User;
+import com.travel.user_management.UserRepository.UserRepository;
+
+/**
+ * Wires the real authentication manager, user details service and JWT helper
+ * around a mocked repository to count the database lookups made per login.
+ */
+class UserServiceSigninTest {
+
+	private static final int THREADS = 8;
+	private static final int CAPACITY = 3;
+
+	private static final String SECRET =
+			"signin-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789";
+
+	private UserRepository userRepository;
+	private UserService userService;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+
+		user = new User();
+		user.setId(1L);
+		user.setUsername("alice");
+		user.setPassword(encoder.encode("secret"));
+		user.setRole(Role.USER);
+
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+		when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+		userService = newUserService(encoder, false, LoginAttemptLimiter.disabled());
+	}
+
+	/**
+	 * Builds a UserService around the mocked repository.
+	 *
+	 * @param encoder       Encoder used for signins and signups.
+	 * @param upgradeHashes Whether outdated hashes are upgraded on signin.
+	 * @param limiter       Limiter consulted before each signin.
+	 */
+	private UserService newUserService(PasswordEncoder encoder, boolean upgradeHashes, LoginAttemptLimiter limiter) {
+		CustomUserDetailsService userDetailsService =
+				new CustomUserDetailsService(userRepository, new NullUserCache(), ReplicaLagPolicy.disabled());
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setUserDetailsService(userDetailsService);
+		if (upgradeHashes) {
+			provider.setUserDetailsPasswordService(userDetailsService);
+		}
+		provider.setPasswordEncoder(encoder);
+		return new UserService(userRepository, encoder, new ProviderManager(provider),
+				new JwtAuthenticationHelper(SECRET, 900), new NullUserCache(), new TransactionTemplate(),
+				new UserAvailabilityService(userRepository, new CountingBloomFilter(100, 0.01), false),
+				new TokenRevocationList(), mock(RefreshTokenService.class), limiter,
+				ReplicaLagPolicy.disabled());
+	}
+
+	private static LoginRequest login(String password) {
+		LoginRequest request = new LoginRequest();
+		request.setUsername("alice");
+		request.setPassword(password);
+		return request;
+	}
+
+	@Test
+	void signinLoadsUserOnce() {
+		LoginResponse response = userService.signin(login("secret"));
+
+		assertNotNull(response.getToken());
+		verify(userRepository, times(1)).findByUsername("alice");
+	}
+
+	@Test
+	void signinWithBadPasswordIsRejected() {
+		assertThrows(BadCredentialsException.class, () -> userService.signin(login("wrong")));
+		verify(userRepository, times(1)).findByUsername("alice");
+	}
+
+	@Test
+	void signinUpgradesOutdatedHash() {
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+				Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+		encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(4));
+		when(userRepository.updatePassword(eq(1L), anyString())).thenReturn(1);
+		UserService upgradingService = newUserService(encoder, true, LoginAttemptLimiter.disabled());
+
+		upgradingService.signin(login("secret"));
+
+		assertTrue(user.getPassword().startsWith("{bcrypt}$2a$05$"));
+		verify(userRepository, times(1)).updatePassword(1L, user.getPassword());
+		verify(userRepository, times(1)).findByUsername("alice");
+	}
+
+	@Test
+	void throttledSigninIsRejectedBeforeHashing() {
+		MutableClock clock = new MutableClock();
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(new TokenBucketLimiter(10, 1, clock),
+				new TokenBucketLimiter(10, 1, clock), 2, Duration.ofMinutes(15),
+				Duration.ofDays(1), clock);
+		UserService limitedService = newUserService(new BCryptPasswordEncoder(4), false, limiter);
+
+		assertThrows(BadCredentialsException.class, () -> limitedService.signin(login("wrong"), "10.0.0.1"));
+		assertThrows(BadCredentialsException.class, () -> limitedService.signin(login("wrong"), "10.0.0.1"));
+
+		assertThrows(TooManyLoginAttemptsException.class, () -> limitedService.signin(login("secret"), "10.0.0.1"));
+		verify(userRepository, times(2)).findByUsername("alice");
+
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.2").getToken());
+	}
+
+	@Test
+	void lockoutExpires() {
+		MutableClock clock = new MutableClock();
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(new TokenBucketLimiter(10, 1, clock),
+				new TokenBucketLimiter(10, 1, clock), 2, Duration.ofMinutes(15),
+				Duration.ofDays(1), clock);
+		UserService limitedService = newUserService(new BCryptPasswordEncoder(4), false, limiter);
+
+		assertThrows(BadCredentialsException.class, () -> limitedService.signin(login("wrong"), "10.0.0.1"));
+		assertThrows(BadCredentialsException.class, () -> limitedService.signin(login("wrong"), "10.0.0.1"));
+		clock.advance(Duration.ofMinutes(14));
+		assertThrows(TooManyLoginAttemptsException.class, () -> limitedService.signin(login("secret"), "10.0.0.1"));
+
+		clock.advance(Duration.ofMinutes(1));
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.1").getToken());
+		verify(userRepository, times(3)).findByUsername("alice");
+	}
+
+	@Test
+	void addressOverItsBucketIsRejectedBeforeHashing() {
+		MutableClock clock = new MutableClock();
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(new TokenBucketLimiter(10, 1, clock),
+				new TokenBucketLimiter(2, 1, clock), 5, Duration.ofMinutes(15),
+				Duration.ofDays(1), clock);
+		UserService limitedService = newUserService(new BCryptPasswordEncoder(4), false, limiter);
+
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.1").getToken());
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.1").getToken());
+
+		assertThrows(TooManyLoginAttemptsException.class, () -> limitedService.signin(login("secret"), "10.0.0.1"));
+		verify(userRepository, times(2)).findByUsername("alice");
+
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.2").getToken());
+		clock.advance(Duration.ofMinutes(1));
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.1").getToken());
+	}
+
+	@Test
+	void failuresFromOtherAddressesDoNotLockOutAKnownAddress() {
+		MutableClock clock = new MutableClock();
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(new TokenBucketLimiter(3, 1, clock),
+				new TokenBucketLimiter(100, 1, clock), 100, Duration.ofMinutes(15),
+				Duration.ofDays(1), clock);
+		UserService limitedService = newUserService(new BCryptPasswordEncoder(4), false, limiter);
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.1").getToken());
+
+		for (int i = 0; i < 3; i++) {
+			assertThrows(BadCredentialsException.class, () -> limitedService.signin(login("wrong"), "192.0.2.66"));
+		}
+		assertThrows(TooManyLoginAttemptsException.class, () -> limitedService.signin(login("wrong"), "192.0.2.66"));
+		assertThrows(TooManyLoginAttemptsException.class, () -> limitedService.signin(login("secret"), "10.0.0.2"));
+
+		assertNotNull(limitedService.signin(login("secret"), "10.0.0.1").getToken());
+	}
+
+	@Test
+	void successfulSigninsDoNotDrainTheUsernameBucket() {
+		MutableClock clock = new MutableClock();
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(new TokenBucketLimiter(2, 1, clock),
+				new TokenBucketLimiter(100, 1, clock), 100, Duration.ofMinutes(15),
+				Duration.ofDays(1), clock);
+		UserService limitedService = newUserService(new BCryptPasswordEncoder(4), false, limiter);
+
+		for (int i = 0; i < 5; i++) {
+			assertNotNull(limitedService.signin(login("secret"), "10.0.0." + i).getToken());
+		}
+	}
+
+	@Test
+	void parallelWrongPasswordsHashAtMostTheUsernameCapacity() throws Exception {
+		MutableClock clock = new MutableClock();
+		LoginAttemptLimiter limiter = new LoginAttemptLimiter(new TokenBucketLimiter(CAPACITY, 1, clock),
+				new TokenBucketLimiter(100, 1, clock), 100, Duration.ofMinutes(15),
+				Duration.ofDays(1), clock);
+		AtomicInteger hashes = new AtomicInteger();
+		BCryptPasswordEncoder slowEncoder = new BCryptPasswordEncoder(4) {
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				hashes.incrementAndGet();
+				// Keep every admitted attempt in flight while the others arrive
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200));
+				return super.matches(rawPassword, encodedPassword);
+			}
+		};
+		UserService limitedService = newUserService(slowEncoder, false, limiter);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> attempts = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			String address = "192.0.2." + i;
+			attempts.add(executor.submit(() -> {
+				start.await();
+				try {
+					limitedService.signin(login("wrong"), address);
+				} catch (BadCredentialsException | TooManyLoginAttemptsException e) {
+					// Either outcome is expected; only the number of hashes matters
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> attempt : attempts) {
+			attempt.get();
+		}
+		executor.shutdown();
+
+		assertEquals(CAPACITY, hashes.get());
+	}
+}
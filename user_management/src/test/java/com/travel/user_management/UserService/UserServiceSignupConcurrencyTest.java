@@ -0,0 +1,104 @@
+package com.travel.user_management.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.travel.user_management.UserDto.UserDto;
+import com.travel.user_management.UserException.UserAlreadyExistsException;
+import com.travel.user_management.UserRepository.UserRepository;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:signup;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"jwt.secretKey=signup-test-secret-key-that-is-long-enough-for-hs512-signing-0123456789",
+		"password.bcrypt.strength=4" })
+class UserServiceSignupConcurrencyTest {
+
+	private static final int THREADS = 8;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll();
+	}
+
+	private static UserDto user(String username, String email, String phoneNumber) {
+		UserDto userDto = new UserDto();
+		userDto.setName("Test User");
+		userDto.setUsername(username);
+		userDto.setEmail(email);
+		userDto.setPhoneNumber(phoneNumber);
+		userDto.setPassword("secret");
+		return userDto;
+	}
+
+	@Test
+	void parallelSignupsForSameUsernameCreateOneUser() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			UserDto userDto = user("racer", "racer" + i + "@example.com", "555000" + i);
+			results.add(executor.submit(() -> {
+				start.await();
+				try {
+					userService.signup(userDto);
+					return true;
+				} catch (UserAlreadyExistsException e) {
+					assertTrue(e.getMessage().contains("username"), e.getMessage());
+					return false;
+				}
+			}));
+		}
+		start.countDown();
+
+		int created = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get()) {
+				created++;
+			}
+		}
+		executor.shutdown();
+
+		assertEquals(1, created);
+		assertEquals(1, userRepository.count());
+	}
+
+	@Test
+	void duplicateEmailIsReportedByField() {
+		userService.signup(user("first", "shared@example.com", "5551111"));
+
+		UserAlreadyExistsException e = assertThrows(UserAlreadyExistsException.class,
+				() -> userService.signup(user("second", "shared@example.com", "5552222")));
+		assertTrue(e.getMessage().contains("email"), e.getMessage());
+	}
+
+	@Test
+	void duplicatePhoneNumberIsReportedByField() {
+		userService.signup(user("first", "first@example.com", "5553333"));
+
+		UserAlreadyExistsException e = assertThrows(UserAlreadyExistsException.class,
+				() -> userService.signup(user("second", "second@example.com", "5553333")));
+		assertTrue(e.getMessage().contains("phone number"), e.getMessage());
+	}
+}